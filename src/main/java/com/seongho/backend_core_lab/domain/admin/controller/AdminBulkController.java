@@ -0,0 +1,71 @@
+package com.seongho.backend_core_lab.domain.admin.controller;
+
+import com.seongho.backend_core_lab.domain.admin.dto.BulkJobResponse;
+import com.seongho.backend_core_lab.domain.admin.dto.BulkPasswordResetRequest;
+import com.seongho.backend_core_lab.domain.admin.dto.BulkRoleUpdateRequest;
+import com.seongho.backend_core_lab.domain.admin.dto.PasswordResetTokenResponse;
+import com.seongho.backend_core_lab.domain.admin.service.AdminBulkService;
+import com.seongho.backend_core_lab.domain.auth.service.PasswordResetService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Admin 일괄 작업 컨트롤러
+ *
+ * /admin/** 경로이므로 AdminAuthorizationInterceptor의 ADMIN 권한 체크를 받습니다.
+ * 작업은 백그라운드에서 chunk 단위로 실행되며, 시작 요청은 202(Accepted)와 jobId를 반환합니다.
+ *
+ * <엔드포인트>
+ * - POST /admin/bulk/role: 권한 일괄 변경 시작
+ * - POST /admin/bulk/password-reset: 비밀번호 일괄 강제 재설정 시작
+ * - GET /admin/bulk/{jobId}: 진행 상황 조회
+ * - DELETE /admin/bulk/{jobId}: 작업 취소
+ * - POST /admin/bulk/{jobId}/retry: 실패한 작업을 실패한 chunk부터 재시도
+ * - POST /admin/bulk/password-reset/{userId}/token: 재설정 대상 사용자에게 전달할 1회용 토큰 발급
+ *   (강제 재설정된 사용자는 이 토큰으로 POST /auth/password-reset 을 호출해야 다시 로그인 가능)
+ */
+@RestController
+@RequestMapping("/admin/bulk")
+@RequiredArgsConstructor
+public class AdminBulkController {
+
+    private final AdminBulkService adminBulkService;
+    private final PasswordResetService passwordResetService;
+
+    @PostMapping("/role")
+    public ResponseEntity<BulkJobResponse> updateRole(@Valid @RequestBody BulkRoleUpdateRequest request) {
+        BulkJobResponse response = adminBulkService.startRoleUpdate(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @PostMapping("/password-reset")
+    public ResponseEntity<BulkJobResponse> resetPassword(@RequestBody BulkPasswordResetRequest request) {
+        BulkJobResponse response = adminBulkService.startPasswordReset(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @PostMapping("/password-reset/{userId}/token")
+    public ResponseEntity<PasswordResetTokenResponse> issueResetToken(@PathVariable Long userId) {
+        PasswordResetTokenResponse response = passwordResetService.issueToken(userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BulkJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(adminBulkService.getJob(jobId));
+    }
+
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<BulkJobResponse> cancel(@PathVariable String jobId) {
+        return ResponseEntity.ok(adminBulkService.cancel(jobId));
+    }
+
+    @PostMapping("/{jobId}/retry")
+    public ResponseEntity<BulkJobResponse> retry(@PathVariable String jobId) {
+        BulkJobResponse response = adminBulkService.retry(jobId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+}
@@ -1,11 +1,18 @@
 package com.seongho.backend_core_lab.domain.admin.controller;
 
 import com.seongho.backend_core_lab.global.auth.SessionInfo;
+import com.seongho.backend_core_lab.global.auth.SessionStore;
+import com.seongho.backend_core_lab.global.auth.SessionTierStats;
+import com.seongho.backend_core_lab.global.trace.TraceRecord;
+import com.seongho.backend_core_lab.global.trace.TraceRecorder;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * Admin 전용 컨트롤러
  * 
@@ -18,11 +25,17 @@ import org.springframework.web.bind.annotation.RestController;
  * 
  * <엔드포인트>
  * - GET /admin: Admin 페이지 메인
+ * - GET /admin/traces: 최근 보관된 요청 트레이스 (느린 요청/오류 요청/샘플)
+ * - GET /admin/sessions/stats: 세션 저장소 핫/콜드 티어 통계
  */
 @RestController
 @RequestMapping("/admin")
+@RequiredArgsConstructor
 public class AdminController {
     
+    private final TraceRecorder traceRecorder;
+    private final SessionStore sessionStore;
+    
     /**
      * Admin 페이지 메인
      * 
@@ -38,4 +51,29 @@ public class AdminController {
         
         return String.format("Hello World, %s님 (관리자)", sessionInfo.getUsername());
     }
+    
+    /**
+     * 최근 보관된 요청 트레이스 조회
+     * 
+     * 각 트레이스는 Filter → Interceptor → Controller → Service → SQL 구간의
+     * span 목록(waterfall)을 포함합니다. 최신 트레이스가 먼저 반환됩니다.
+     * 
+     * @return 최근 트레이스 목록
+     */
+    @GetMapping("/traces")
+    public List<TraceRecord> traces() {
+        return traceRecorder.getRecentTraces();
+    }
+    
+    /**
+     * 세션 저장소 티어 통계 조회
+     * 
+     * 핫(힙)/콜드(디스크) 세션 수와 콜드 세션 조회 지연(평균/최대)을 반환합니다.
+     * 
+     * @return 티어별 통계
+     */
+    @GetMapping("/sessions/stats")
+    public SessionTierStats sessionStats() {
+        return sessionStore.getTierStats();
+    }
 }
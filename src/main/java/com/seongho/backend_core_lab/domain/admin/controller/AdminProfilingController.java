@@ -0,0 +1,58 @@
+package com.seongho.backend_core_lab.domain.admin.controller;
+
+import com.seongho.backend_core_lab.global.profiling.ContinuousProfiler;
+import com.seongho.backend_core_lab.global.profiling.ProfilingSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Admin 프로파일링 컨트롤러
+ *
+ * /admin/** 경로이므로 AdminAuthorizationInterceptor의 ADMIN 권한 체크를 받습니다.
+ * 데이터는 상시 켜져 있는 JFR 녹화(ContinuousProfiler)에서 가져옵니다.
+ *
+ * <엔드포인트>
+ * - GET /admin/profiling?top={개수}: 최근 구간 경로별 요청 통계, 할당/대기 상위 스택, GC, 스레드 수
+ * - GET /admin/profiling/dump?minutes={분}: 최근 N분 녹화 파일(.jfr) 다운로드 (JDK Mission Control로 분석)
+ */
+@RestController
+@RequestMapping("/admin/profiling")
+@RequiredArgsConstructor
+public class AdminProfilingController {
+
+    private static final int MAX_TOP = 50;
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ContinuousProfiler continuousProfiler;
+
+    @GetMapping
+    public ResponseEntity<ProfilingSnapshot> snapshot(@RequestParam(defaultValue = "10") int top) {
+        if (top < 1 || top > MAX_TOP) {
+            throw new IllegalArgumentException("top은 1 이상 " + MAX_TOP + " 이하여야 합니다");
+        }
+        return ResponseEntity.ok(continuousProfiler.snapshot(top));
+    }
+
+    @GetMapping("/dump")
+    public ResponseEntity<StreamingResponseBody> dump(@RequestParam(defaultValue = "5") int minutes) {
+        continuousProfiler.validateDump(minutes); // 응답 본문을 쓰기 전에 검증 (잘못된 요청은 400)
+
+        String filename = "profile-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr";
+        StreamingResponseBody body = out -> continuousProfiler.dump(minutes, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
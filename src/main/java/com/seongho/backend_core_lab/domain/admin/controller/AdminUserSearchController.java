@@ -0,0 +1,56 @@
+package com.seongho.backend_core_lab.domain.admin.controller;
+
+import com.seongho.backend_core_lab.domain.admin.dto.UserSearchResponse;
+import com.seongho.backend_core_lab.domain.user.search.UserSearchHit;
+import com.seongho.backend_core_lab.domain.user.search.UserSearchIndex;
+import com.seongho.backend_core_lab.domain.user.search.UserSearchIndexStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Admin 사용자 검색 컨트롤러
+ *
+ * /admin/** 경로이므로 AdminAuthorizationInterceptor의 ADMIN 권한 체크를 받습니다.
+ * DB를 조회하지 않고 메모리 검색 인덱스(UserSearchIndex)만 사용합니다.
+ *
+ * <엔드포인트>
+ * - GET /admin/users/search?q={검색어}&limit={개수}: username/email 접두어 + 부분 문자열 검색
+ * - GET /admin/users/search/stats: 인덱스 크기와 메모리 사용량 (사용자 100만 명 기준 환산 포함)
+ */
+@RestController
+@RequestMapping("/admin/users/search")
+@RequiredArgsConstructor
+public class AdminUserSearchController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final UserSearchIndex userSearchIndex;
+
+    @GetMapping
+    public ResponseEntity<UserSearchResponse> search(@RequestParam("q") String query,
+                                                     @RequestParam(defaultValue = "10") int limit) {
+        if (query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 이상 " + MAX_LIMIT + " 이하여야 합니다");
+        }
+
+        long start = System.nanoTime();
+        List<UserSearchHit> results = userSearchIndex.search(query, limit);
+        long tookMicros = (System.nanoTime() - start) / 1_000;
+
+        return ResponseEntity.ok(new UserSearchResponse(query, tookMicros, results));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<UserSearchIndexStats> stats() {
+        return ResponseEntity.ok(userSearchIndex.stats());
+    }
+}
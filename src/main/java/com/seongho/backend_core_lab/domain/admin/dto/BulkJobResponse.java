@@ -0,0 +1,38 @@
+package com.seongho.backend_core_lab.domain.admin.dto;
+
+import com.seongho.backend_core_lab.domain.admin.service.BulkJob;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 일괄 작업 진행 상황 응답
+ */
+@Getter
+public class BulkJobResponse {
+    
+    private final String jobId;
+    private final String type;
+    private final BulkJob.Status status;
+    private final long total; // 전체 대상 수 (시작 시점 기준)
+    private final long processed; // 처리 완료된 사용자 수
+    private final long sessionsInvalidated; // 무효화된 세션 수
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final String errorMessage;
+    private final Map<Integer, Long> committedUpToByShard; // 샤드별로 커밋된 마지막 ID (재시도 시 이후부터 처리)
+    
+    public BulkJobResponse(BulkJob job) {
+        this.jobId = job.getId();
+        this.type = job.getType();
+        this.status = job.getStatus();
+        this.total = job.getTotal();
+        this.processed = job.getProcessed();
+        this.sessionsInvalidated = job.getSessionsInvalidated();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+        this.errorMessage = job.getErrorMessage();
+        this.committedUpToByShard = job.getCommittedUpToByShard();
+    }
+}
@@ -0,0 +1,28 @@
+package com.seongho.backend_core_lab.domain.admin.dto;
+
+import com.seongho.backend_core_lab.domain.user.enums.AuthProvider;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 비밀번호 강제 재설정 요청
+ * 
+ * 대상 지정 방법 (둘 중 하나 이상 필요)
+ * - userIds: 사용자 ID 목록을 직접 지정 (지정하면 provider 조건은 무시)
+ * - provider: 해당 인증 제공자로 가입한 사용자 전체 (예: LOCAL)
+ */
+@Getter
+@NoArgsConstructor
+public class BulkPasswordResetRequest {
+    
+    private List<Long> userIds;
+    
+    private AuthProvider provider;
+    
+    public BulkPasswordResetRequest(List<Long> userIds, AuthProvider provider) {
+        this.userIds = userIds;
+        this.provider = provider;
+    }
+}
@@ -0,0 +1,37 @@
+package com.seongho.backend_core_lab.domain.admin.dto;
+
+import com.seongho.backend_core_lab.domain.user.enums.AuthProvider;
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 권한 변경 요청
+ * 
+ * 대상 지정 방법 (둘 중 하나 이상 필요)
+ * - userIds: 사용자 ID 목록을 직접 지정 (지정하면 아래 조건은 무시)
+ * - provider / currentRole: 조건에 맞는 사용자 전체
+ */
+@Getter
+@NoArgsConstructor
+public class BulkRoleUpdateRequest {
+    
+    private List<Long> userIds;
+    
+    private AuthProvider provider; // 조건: 인증 제공자
+    
+    private Role currentRole; // 조건: 현재 권한
+    
+    @NotNull(message = "변경할 권한을 입력해주세요")
+    private Role role;
+    
+    public BulkRoleUpdateRequest(List<Long> userIds, AuthProvider provider, Role currentRole, Role role) {
+        this.userIds = userIds;
+        this.provider = provider;
+        this.currentRole = currentRole;
+        this.role = role;
+    }
+}
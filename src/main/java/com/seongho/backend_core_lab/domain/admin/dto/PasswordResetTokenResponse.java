@@ -0,0 +1,25 @@
+package com.seongho.backend_core_lab.domain.admin.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비밀번호 재설정 토큰 발급 응답
+ * 
+ * token은 이 응답에서 한 번만 확인할 수 있습니다. (DB에는 해시만 저장)
+ * 관리자가 사용자에게 별도 경로로 전달하고, 사용자는 POST /auth/password-reset 으로 새 비밀번호를 설정합니다.
+ */
+@Getter
+public class PasswordResetTokenResponse {
+    
+    private final Long userId;
+    private final String token;
+    private final LocalDateTime expiresAt;
+    
+    public PasswordResetTokenResponse(Long userId, String token, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.token = token;
+        this.expiresAt = expiresAt;
+    }
+}
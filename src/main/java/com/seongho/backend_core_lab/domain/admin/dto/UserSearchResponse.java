@@ -0,0 +1,23 @@
+package com.seongho.backend_core_lab.domain.admin.dto;
+
+import com.seongho.backend_core_lab.domain.user.search.UserSearchHit;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 관리자 사용자 검색 응답
+ */
+@Getter
+public class UserSearchResponse {
+
+    private final String query;
+    private final long tookMicros; // 인덱스 검색 소요 시간(마이크로초)
+    private final List<UserSearchHit> results;
+
+    public UserSearchResponse(String query, long tookMicros, List<UserSearchHit> results) {
+        this.query = query;
+        this.tookMicros = tookMicros;
+        this.results = results;
+    }
+}
@@ -0,0 +1,362 @@
+package com.seongho.backend_core_lab.domain.admin.service;
+
+import com.seongho.backend_core_lab.domain.admin.dto.BulkJobResponse;
+import com.seongho.backend_core_lab.domain.admin.dto.BulkPasswordResetRequest;
+import com.seongho.backend_core_lab.domain.admin.dto.BulkRoleUpdateRequest;
+import com.seongho.backend_core_lab.domain.user.enums.AuthProvider;
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import com.seongho.backend_core_lab.domain.user.repository.ShardedUserRepository;
+import com.seongho.backend_core_lab.global.auth.SessionStore;
+import com.seongho.backend_core_lab.global.auth.VerifiedCredentialCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 관리자 일괄 작업 서비스 (권한 일괄 변경, 비밀번호 일괄 강제 재설정)
+ *
+ * <처리 방식>
+ * - 대상 사용자 ID를 id 오름차순 chunk로 조회 (엔티티 로딩 없음)
+ * - 단일 DB: chunk마다 트랜잭션 1개 (chunk 조회 + 집합 기반 UPDATE 1번, UPDATE ... WHERE id IN (...))
+ * - 샤딩 사용: 바깥 트랜잭션 없이 chunk 조회(모든 샤드 병합) 후 샤드별 UPDATE를 샤드 트랜잭션으로 각각 커밋
+ *   (샤드 간 원자성은 없음 → 샤드별 진행 기록으로 재시도)
+ * - 커밋 직후(샤딩 사용 시 샤드마다) 해당 사용자들의 세션을 SessionStore에서 무효화
+ *   + 로그인 검증 캐시 항목 삭제 (JPQL UPDATE는 엔티티 리스너를 거치지 않으므로 직접 삭제)
+ *   (SessionStore의 사용자별 인덱스 사용 → 전체 세션을 훑지 않음)
+ *
+ * <진행률 / 취소 / 재시도>
+ * - 작업은 백그라운드 스레드 1개에서 순서대로 실행 (DB에 일괄 UPDATE가 몰리지 않도록)
+ * - 커밋마다 진행률 갱신, 취소 요청 시 다음 chunk부터 중단 (이미 커밋된 chunk는 유지)
+ * - 실패한 작업은 retry()로 실패한 chunk부터 다시 실행
+ *   - 마지막으로 끝난 chunk 다음부터 조회하고, 샤드별로 이미 커밋된 ID는 건너뜀 (BulkJob의 진행 기록)
+ *   - 권한 변경/재설정 표시는 같은 값을 다시 써도 결과가 같으므로 중복 실행되어도 안전
+ */
+@Slf4j
+@Service
+public class AdminBulkService {
+
+    private static final int MAX_FINISHED_JOBS = 100; // 조회용으로 남겨두는 완료 작업 수
+
+    private final ShardedUserRepository userRepository;
+    private final SessionStore sessionStore;
+    private final VerifiedCredentialCache verifiedCredentialCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final Executor executor;
+    private final Map<String, JobRun> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AdminBulkService(ShardedUserRepository userRepository,
+                            SessionStore sessionStore,
+                            VerifiedCredentialCache verifiedCredentialCache,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${admin.bulk.chunk-size:1000}") int chunkSize) {
+        this(userRepository, sessionStore, verifiedCredentialCache, transactionManager, chunkSize,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "admin-bulk");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    // 테스트에서 작업 실행 시점을 직접 제어할 때 사용
+    AdminBulkService(ShardedUserRepository userRepository,
+                     SessionStore sessionStore,
+                     VerifiedCredentialCache verifiedCredentialCache,
+                     PlatformTransactionManager transactionManager,
+                     int chunkSize,
+                     Executor executor) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("admin.bulk.chunk-size는 0보다 커야 합니다");
+        }
+        this.executor = executor;
+        this.userRepository = userRepository;
+        this.sessionStore = sessionStore;
+        this.verifiedCredentialCache = verifiedCredentialCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobs.values().forEach(run -> run.job.requestCancel());
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * 일괄 권한 변경 시작
+     *
+     * @param request 대상 조건 + 변경할 권한
+     * @return 시작된 작업 정보 (jobId로 진행률 조회/취소)
+     */
+    public BulkJobResponse startRoleUpdate(BulkRoleUpdateRequest request) {
+        Role role = request.getRole();
+        ChunkSource source = chunkSource(request.getUserIds(), request.getProvider(), request.getCurrentRole());
+        return submit("ROLE_UPDATE", source, (shard, ids) -> userRepository.updateRoleByIdIn(shard, role, ids));
+    }
+
+    /**
+     * 일괄 비밀번호 강제 재설정 시작
+     *
+     * 대상 사용자는 비밀번호를 변경하기 전까지 로그인할 수 없습니다.
+     * 관리자가 사용자별로 재설정 토큰을 발급하면(PasswordResetService.issueToken)
+     * 사용자가 그 토큰으로 새 비밀번호를 설정해 다시 로그인할 수 있습니다.
+     *
+     * @param request 대상 조건
+     * @return 시작된 작업 정보
+     */
+    public BulkJobResponse startPasswordReset(BulkPasswordResetRequest request) {
+        ChunkSource source = chunkSource(request.getUserIds(), request.getProvider(), null);
+        return submit("PASSWORD_RESET", source, userRepository::requirePasswordResetByIdIn);
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     */
+    public BulkJobResponse getJob(String jobId) {
+        return new BulkJobResponse(findJob(jobId));
+    }
+
+    /**
+     * 작업 취소 요청
+     *
+     * 진행 중인 chunk는 끝까지 처리되고, 다음 chunk부터 중단됩니다.
+     */
+    public BulkJobResponse cancel(String jobId) {
+        BulkJob job = findJob(jobId);
+        job.requestCancel();
+        return new BulkJobResponse(job);
+    }
+
+    /**
+     * 실패한 작업 재시도
+     *
+     * 실패한 chunk부터 다시 실행합니다. 샤드별로 이미 커밋된 사용자는 다시 UPDATE하지 않습니다.
+     */
+    public BulkJobResponse retry(String jobId) {
+        JobRun run = findRun(jobId);
+        if (!run.job.restart()) {
+            throw new IllegalArgumentException("실패한 작업만 재시도할 수 있습니다");
+        }
+        executor.execute(() -> run(run));
+
+        log.info("[Bulk] 작업 재시도 - id: {}, 처리 완료: {}명", jobId, run.job.getProcessed());
+        return new BulkJobResponse(run.job);
+    }
+
+    private BulkJob findJob(String jobId) {
+        return findRun(jobId).job();
+    }
+
+    private JobRun findRun(String jobId) {
+        JobRun run = jobs.get(jobId);
+        if (run == null) {
+            throw new IllegalArgumentException("존재하지 않는 작업입니다");
+        }
+        return run;
+    }
+
+    private BulkJobResponse submit(String type, ChunkSource source, ChunkUpdater updater) {
+        pruneFinishedJobs();
+
+        JobRun run = new JobRun(new BulkJob(type, source.total()), source, updater);
+        jobs.put(run.job.getId(), run);
+        executor.execute(() -> run(run));
+
+        log.info("[Bulk] 작업 시작 - id: {}, 종류: {}, 대상: {}명", run.job.getId(), type, run.job.getTotal());
+        return new BulkJobResponse(run.job);
+    }
+
+    private void run(JobRun run) {
+        BulkJob job = run.job;
+        long lastId = job.getResumeAfterId(); // 재시도면 마지막으로 끝난 chunk 다음부터
+        try {
+            while (!job.isCancelRequested()) {
+                List<Long> ids = userRepository.isSharded()
+                        ? processShardedChunk(run, lastId)
+                        : processChunk(run, lastId);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                lastId = ids.get(ids.size() - 1);
+                job.chunkDone(lastId);
+            }
+            job.finish(job.isCancelRequested() ? BulkJob.Status.CANCELLED : BulkJob.Status.COMPLETED, null);
+        } catch (RuntimeException e) {
+            log.warn("[Bulk] 작업 실패 - id: {}", job.getId(), e);
+            job.finish(BulkJob.Status.FAILED, e.getMessage());
+        }
+        log.info("[Bulk] 작업 종료 - id: {}, 상태: {}, 처리: {}명, 세션 무효화: {}개",
+                job.getId(), job.getStatus(), job.getProcessed(), job.getSessionsInvalidated());
+    }
+
+    /**
+     * 단일 DB: chunk 조회 + UPDATE를 트랜잭션 1개로 실행
+     */
+    private List<Long> processChunk(JobRun run, long after) {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Long> chunk = run.source.next(after, chunkSize);
+            if (!chunk.isEmpty()) {
+                run.updater.update(0, chunk); // 집합 기반 UPDATE 1번 (이 트랜잭션 안에서 실행)
+            }
+            return chunk;
+        });
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        committed(run.job, 0, ids);
+        return ids;
+    }
+
+    /**
+     * 샤딩 사용: 조회와 샤드별 UPDATE가 각자 샤드 트랜잭션(REQUIRES_NEW)으로 실행되므로 바깥 트랜잭션 없이 실행
+     *
+     * 샤드 하나가 실패하면 앞서 커밋된 샤드는 그대로 남고, 진행 기록(committedUpTo)으로 재시도 시 건너뜀
+     */
+    private List<Long> processShardedChunk(JobRun run, long after) {
+        BulkJob job = run.job;
+        List<Long> ids = run.source.next(after, chunkSize);
+        for (Map.Entry<Integer, List<Long>> entry : userRepository.groupByShard(ids).entrySet()) {
+            int shard = entry.getKey();
+            long committedUpTo = job.committedUpTo(shard);
+            List<Long> pending = entry.getValue().stream()
+                    .filter(id -> id > committedUpTo)
+                    .toList();
+            if (pending.isEmpty()) {
+                continue; // 재시도: 이 샤드는 이미 커밋됨
+            }
+            run.updater.update(shard, pending);
+            committed(job, shard, pending);
+        }
+        return ids;
+    }
+
+    /**
+     * 커밋된 사용자들의 기존 세션 무효화 (변경 전 권한이 담긴 세션을 계속 쓰지 않도록) + 진행 기록
+     */
+    private void committed(BulkJob job, int shard, List<Long> ids) {
+        int invalidated = sessionStore.removeSessionsByUserIds(ids);
+        verifiedCredentialCache.invalidateAll(ids);
+        job.shardCommitted(shard, ids.get(ids.size() - 1), ids.size(), invalidated);
+    }
+
+    private void pruneFinishedJobs() {
+        if (jobs.size() < MAX_FINISHED_JOBS) {
+            return;
+        }
+        jobs.values().removeIf(run -> run.job.isFinished());
+    }
+
+    /**
+     * 대상 지정 방식에 따라 chunk 공급자 선택
+     * - userIds 지정: 요청에 담긴 ID 목록을 정렬해서 나눠 씀
+     * - 조건 지정: DB에서 id > lastId 조건으로 chunk씩 조회
+     */
+    private ChunkSource chunkSource(List<Long> userIds, AuthProvider provider, Role currentRole) {
+        if (userIds != null && !userIds.isEmpty()) {
+            return new IdListChunkSource(userIds);
+        }
+        if (provider == null && currentRole == null) {
+            throw new IllegalArgumentException("대상 사용자 ID 목록 또는 조건을 입력해주세요");
+        }
+        return new ChunkSource() {
+            @Override
+            public long total() {
+                return userRepository.countByFilter(provider, currentRole);
+            }
+
+            @Override
+            public List<Long> next(long lastId, int size) {
+                return userRepository.findIdsByFilterAfter(provider, currentRole, lastId, PageRequest.of(0, size));
+            }
+        };
+    }
+
+    /**
+     * 대상 사용자 ID를 chunk 단위로 공급
+     */
+    private interface ChunkSource {
+
+        long total();
+
+        /**
+         * @param lastId 이전 chunk의 마지막 ID (처음에는 0)
+         * @param size chunk 크기
+         * @return id 오름차순 ID 목록 (더 없으면 빈 목록)
+         */
+        List<Long> next(long lastId, int size);
+    }
+
+    /**
+     * 샤드 1곳에 대한 집합 기반 UPDATE (ids는 모두 shard에 있음, 샤딩 비활성화 시 shard는 0)
+     */
+    @FunctionalInterface
+    private interface ChunkUpdater {
+
+        int update(int shard, Collection<Long> ids);
+    }
+
+    /**
+     * 작업 상태 + 재시도에 필요한 대상/UPDATE
+     */
+    private static class JobRun {
+
+        private final BulkJob job;
+        private final ChunkSource source;
+        private final ChunkUpdater updater;
+
+        JobRun(BulkJob job, ChunkSource source, ChunkUpdater updater) {
+            this.job = job;
+            this.source = source;
+            this.updater = updater;
+        }
+    }
+
+    /**
+     * 요청에 직접 담긴 ID 목록용 chunk 공급자
+     */
+    private static class IdListChunkSource implements ChunkSource {
+
+        private final long[] ids; // 정렬 + 중복 제거
+
+        IdListChunkSource(List<Long> userIds) {
+            this.ids = userIds.stream()
+                    .filter(Objects::nonNull)
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .distinct()
+                    .toArray();
+        }
+
+        @Override
+        public long total() {
+            return ids.length;
+        }
+
+        @Override
+        public List<Long> next(long lastId, int size) {
+            int from = Arrays.binarySearch(ids, lastId);
+            from = (from >= 0) ? from + 1 : -from - 1; // lastId보다 큰 첫 위치
+            int to = Math.min(from + size, ids.length);
+            return Arrays.stream(ids, from, to).boxed().toList();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.seongho.backend_core_lab.domain.admin.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자 일괄 작업 1건의 진행 상태
+ * 
+ * 작업 스레드가 chunk마다 진행률을 갱신하고,
+ * 요청 스레드(GET /admin/bulk/{jobId})가 동시에 읽기 때문에 atomic/volatile 필드를 사용합니다.
+ * 
+ * <재시도용 진행 기록>
+ * - resumeAfterId: 모든 샤드에 커밋된 마지막 chunk의 마지막 ID (재시도는 이 다음 chunk부터)
+ * - committedUpToByShard: 샤드별로 커밋된 마지막 ID
+ *   (샤딩 사용 시 chunk가 샤드별로 따로 커밋되므로, 실패한 chunk를 다시 실행할 때 이미 커밋된 샤드는 건너뜀)
+ */
+public class BulkJob {
+    
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+    
+    private final String id = UUID.randomUUID().toString();
+    private final String type;
+    private final long total;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong sessionsInvalidated = new AtomicLong();
+    private final Map<Integer, Long> committedUpToByShard = new ConcurrentHashMap<>();
+    
+    private volatile Status status = Status.RUNNING;
+    private volatile boolean cancelRequested;
+    private volatile LocalDateTime finishedAt;
+    private volatile String errorMessage;
+    private volatile long resumeAfterId;
+    
+    BulkJob(String type, long total) {
+        this.type = type;
+        this.total = total;
+    }
+    
+    /**
+     * 샤드 1곳에 chunk 일부(또는 전체)가 커밋됨
+     * 
+     * @param lastId 커밋된 ID 중 가장 큰 값
+     */
+    void shardCommitted(int shard, long lastId, int processedCount, int invalidatedCount) {
+        committedUpToByShard.merge(shard, lastId, Math::max);
+        processed.addAndGet(processedCount);
+        sessionsInvalidated.addAndGet(invalidatedCount);
+    }
+    
+    /**
+     * chunk가 모든 샤드에 커밋됨
+     */
+    void chunkDone(long lastId) {
+        this.resumeAfterId = lastId;
+    }
+    
+    long committedUpTo(int shard) {
+        return committedUpToByShard.getOrDefault(shard, 0L);
+    }
+    
+    long getResumeAfterId() {
+        return resumeAfterId;
+    }
+    
+    void requestCancel() {
+        this.cancelRequested = true;
+    }
+    
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+    
+    /**
+     * 실패한 작업을 다시 실행 상태로 (이미 재시도 중이거나 실패하지 않은 작업이면 false)
+     */
+    synchronized boolean restart() {
+        if (status != Status.FAILED) {
+            return false;
+        }
+        this.cancelRequested = false;
+        this.errorMessage = null;
+        this.finishedAt = null;
+        this.status = Status.RUNNING;
+        return true;
+    }
+    
+    synchronized void finish(Status status, String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status; // 마지막에 기록 -> 상태가 바뀌면 나머지 필드도 보임
+    }
+    
+    boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public long getTotal() {
+        return total;
+    }
+    
+    public long getProcessed() {
+        return processed.get();
+    }
+    
+    public long getSessionsInvalidated() {
+        return sessionsInvalidated.get();
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+    
+    public Map<Integer, Long> getCommittedUpToByShard() {
+        return new TreeMap<>(committedUpToByShard); // 샤드 번호 순
+    }
+}
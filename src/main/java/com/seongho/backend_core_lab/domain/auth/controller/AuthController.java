@@ -2,9 +2,11 @@ package com.seongho.backend_core_lab.domain.auth.controller;
 
 import com.seongho.backend_core_lab.domain.auth.dto.LoginRequest;
 import com.seongho.backend_core_lab.domain.auth.dto.LoginResponse;
+import com.seongho.backend_core_lab.domain.auth.dto.PasswordResetRequest;
 import com.seongho.backend_core_lab.domain.auth.dto.SignupRequest;
 import com.seongho.backend_core_lab.domain.auth.dto.SignupResponse;
 import com.seongho.backend_core_lab.domain.auth.service.AuthService;
+import com.seongho.backend_core_lab.domain.auth.service.PasswordResetService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
     
     private final AuthService authService;
+    private final PasswordResetService passwordResetService;
     
     @PostMapping("/signup")
     public ResponseEntity<SignupResponse> signup(@Valid @RequestBody SignupRequest request) {
@@ -39,4 +42,11 @@ public class AuthController {
         return ResponseEntity.ok("로그아웃되었습니다");
         // = ResponseEntity.status(200).body(response)
     }
+    
+    // 관리자가 발급한 재설정 토큰으로 새 비밀번호 설정 (로그인 전에 호출하므로 인증 필터 예외 경로)
+    @PostMapping("/password-reset")
+    public ResponseEntity<String> resetPassword(@Valid @RequestBody PasswordResetRequest request) {
+        passwordResetService.resetPassword(request);
+        return ResponseEntity.ok("비밀번호가 변경되었습니다");
+    }
 }
@@ -14,11 +14,12 @@ public class LoginResponse {
     private final Role role;
     private final String sessionId;
     
-    public LoginResponse(User user, String sessionId) {
+    // role: 세션에 담긴 권한 (로그인 도중 권한이 바뀌어 다시 읽은 경우 user.getRole()과 다를 수 있음)
+    public LoginResponse(User user, Role role, String sessionId) {
         this.userId = user.getId();
         this.username = user.getUsername();
         this.email = user.getEmail();
-        this.role = user.getRole();
+        this.role = role;
         this.sessionId = sessionId;
     } // password 필드는 제외하고 생성자 생성 -> 보안 유지
 }
@@ -0,0 +1,30 @@
+package com.seongho.backend_core_lab.domain.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비밀번호 재설정 요청 (관리자가 발급한 재설정 토큰 사용)
+ */
+@Getter
+@NoArgsConstructor
+public class PasswordResetRequest {
+    
+    @NotBlank(message = "아이디를 입력해주세요")
+    private String username;
+    
+    @NotBlank(message = "재설정 토큰을 입력해주세요")
+    private String token;
+    
+    @NotBlank(message = "새 비밀번호를 입력해주세요")
+    @Size(min = 8, max = 100, message = "비밀번호는 8자 이상이어야 합니다") // SignupRequest와 같은 규칙
+    private String newPassword;
+    
+    public PasswordResetRequest(String username, String token, String newPassword) {
+        this.username = username;
+        this.token = token;
+        this.newPassword = newPassword;
+    }
+}
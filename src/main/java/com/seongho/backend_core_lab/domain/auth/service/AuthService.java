@@ -7,27 +7,63 @@ import com.seongho.backend_core_lab.domain.auth.dto.SignupResponse;
 import com.seongho.backend_core_lab.domain.user.entity.User;
 import com.seongho.backend_core_lab.domain.user.enums.AuthProvider;
 import com.seongho.backend_core_lab.domain.user.enums.Role;
-import com.seongho.backend_core_lab.domain.user.repository.UserRepository;
+import com.seongho.backend_core_lab.domain.user.repository.ShardedUserRepository;
+import com.seongho.backend_core_lab.domain.user.repository.UserLoginState;
 import com.seongho.backend_core_lab.global.auth.SessionInfo;
 import com.seongho.backend_core_lab.global.auth.SessionStore;
+import com.seongho.backend_core_lab.global.auth.VerifiedCredentialCache;
+import com.seongho.backend_core_lab.global.trace.TraceContext;
 import com.seongho.backend_core_lab.global.util.PasswordEncoder;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 //readOnly = true: 읽기 전용 트랜잭션, 쓰기 작업 시 예외 발생
 public class AuthService {
     
-    private final UserRepository userRepository;
+    private static final String LOGIN_FAILED = "아이디 또는 비밀번호가 일치하지 않습니다";
+    private static final int MAX_SESSION_ATTEMPTS = 3;
+    
+    private final ShardedUserRepository userRepository; // 샤딩 비활성화 시 UserRepository와 동일하게 동작
     private final PasswordEncoder passwordEncoder;
     private final SessionStore sessionStore;
+    private final VerifiedCredentialCache verifiedCredentialCache;
     
     @Transactional
     public SignupResponse signup(SignupRequest request) {
+        int span = TraceContext.startSpan(TraceContext.SERVICE, "AuthService.signup");
+        try {
+            return doSignup(request);
+        } finally {
+            TraceContext.endSpan(span);
+        }
+    }
+    
+    public LoginResponse login(LoginRequest request) {
+        int span = TraceContext.startSpan(TraceContext.SERVICE, "AuthService.login");
+        try {
+            return doLogin(request);
+        } finally {
+            TraceContext.endSpan(span);
+        }
+    }
+    
+    public void logout(String sessionId) {
+        int span = TraceContext.startSpan(TraceContext.SERVICE, "AuthService.logout");
+        try {
+            sessionStore.removeSession(sessionId);
+        } finally {
+            TraceContext.endSpan(span);
+        }
+    }
+    
+    private SignupResponse doSignup(SignupRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new IllegalArgumentException("이미 존재하는 아이디입니다");
         }
@@ -39,6 +75,7 @@ public class AuthService {
         String encodedPassword = passwordEncoder.encode(request.getPassword()); // 비밀번호 암호화
         
         User user = User.builder()
+                .id(userRepository.newUserId(request.getUsername(), request.getEmail())) // 저장될 샤드가 담긴 ID
                 .username(request.getUsername())
                 .password(encodedPassword) // 비밀번호 암호화 저장
                 .email(request.getEmail())
@@ -51,26 +88,57 @@ public class AuthService {
         return new SignupResponse(savedUser); // 회원가입 응답 반환
     }
     
-    public LoginResponse login(LoginRequest request) {
+    private LoginResponse doLogin(LoginRequest request) {
+        long sessionVersion = sessionStore.sessionVersion(); // 사용자 정보를 읽기 전에 받아둠
+        
         User user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다"));
+                .orElseThrow(() -> new IllegalArgumentException(LOGIN_FAILED));
         
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다");
+        if (!verifyPassword(user, request.getPassword())) {
+            throw new IllegalArgumentException(LOGIN_FAILED);
         }
         
-        SessionInfo sessionInfo = new SessionInfo(
-                user.getId(),
-                user.getUsername(),
-                user.getRole()
-        );
-        
-        String sessionId = sessionStore.createSession(sessionInfo); // 세션 생성
-        
-        return new LoginResponse(user, sessionId); // 로그인 응답 반환
+        Role role = user.getRole();
+        boolean passwordResetRequired = user.isPasswordResetRequired();
+        for (int attempt = 1; ; attempt++) {
+            // 관리자가 비밀번호 재설정을 강제한 계정 - 비밀번호가 맞았다는 사실을 알려주지 않도록 같은 메시지 사용
+            // (재설정은 관리자가 발급한 토큰으로 POST /auth/password-reset)
+            if (passwordResetRequired) {
+                throw new IllegalArgumentException(LOGIN_FAILED);
+            }
+            
+            SessionInfo sessionInfo = new SessionInfo(user.getId(), user.getUsername(), role);
+            Optional<String> sessionId = sessionStore.createSession(sessionInfo, sessionVersion); // 세션 생성
+            if (sessionId.isPresent()) {
+                return new LoginResponse(user, role, sessionId.get()); // 로그인 응답 반환
+            }
+            if (attempt == MAX_SESSION_ATTEMPTS) {
+                throw new IllegalStateException("사용자 정보가 변경되는 중입니다. 잠시 후 다시 시도해주세요");
+            }
+            
+            // 읽은 뒤 관리자 일괄 작업으로 세션이 무효화됨 → 권한/재설정 여부를 DB에서 다시 읽음
+            sessionVersion = sessionStore.sessionVersion();
+            UserLoginState state = userRepository.findLoginStateById(user.getId())
+                    .orElseThrow(() -> new IllegalArgumentException(LOGIN_FAILED));
+            role = state.getRole();
+            passwordResetRequired = state.isPasswordResetRequired();
+        }
     }
     
-    public void logout(String sessionId) {
-        sessionStore.removeSession(sessionId);
+    /**
+     * 비밀번호 검증
+     * 
+     * 최근에 같은 비밀번호로 검증에 성공했으면(캐시 적중) bcrypt를 생략합니다.
+     * 캐시가 비활성화되어 있으면 항상 bcrypt로 검증합니다.
+     */
+    private boolean verifyPassword(User user, String rawPassword) {
+        if (verifiedCredentialCache.matches(user.getId(), user.getPassword(), rawPassword)) {
+            return true;
+        }
+        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+            return false;
+        }
+        verifiedCredentialCache.put(user.getId(), user.getPassword(), rawPassword);
+        return true;
     }
 }
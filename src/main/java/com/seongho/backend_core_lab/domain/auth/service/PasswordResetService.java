@@ -0,0 +1,147 @@
+package com.seongho.backend_core_lab.domain.auth.service;
+
+import com.seongho.backend_core_lab.domain.admin.dto.PasswordResetTokenResponse;
+import com.seongho.backend_core_lab.domain.auth.dto.PasswordResetRequest;
+import com.seongho.backend_core_lab.domain.user.entity.User;
+import com.seongho.backend_core_lab.domain.user.repository.ShardedUserRepository;
+import com.seongho.backend_core_lab.global.auth.SessionStore;
+import com.seongho.backend_core_lab.global.util.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 비밀번호 재설정 서비스
+ * 
+ * 관리자 일괄 작업(비밀번호 강제 재설정)이나 토큰 발급으로 passwordResetRequired가 된 계정은
+ * 기존 비밀번호로 로그인할 수 없고, 관리자가 발급한 1회용 토큰으로만 새 비밀번호를 설정할 수 있습니다.
+ * (강제 재설정은 기존 비밀번호 유출을 가정하므로 기존 비밀번호로는 재설정하지 않음)
+ * 
+ * <흐름>
+ * 1. 관리자: POST /admin/bulk/password-reset/{userId}/token → 토큰 발급 (응답에서 1번만 확인 가능)
+ * 2. 관리자가 사용자에게 별도 경로로 토큰 전달
+ * 3. 사용자: POST /auth/password-reset (아이디 + 토큰 + 새 비밀번호) → 재설정 해제, 토큰 폐기
+ * 
+ * <토큰 저장>
+ * - DB에는 SHA-256 해시만 저장 (DB가 유출되어도 토큰을 쓸 수 없음)
+ * - password-reset.token-ttl-minutes 후 만료, 새로 발급하면 이전 토큰은 무효
+ * 
+ * <세션 무효화>
+ * 기존 세션은 커밋 후에 지웁니다. (AdminBulkService와 동일)
+ * 커밋 전에 지우면 그 사이 시작한 로그인이 무효화 순번을 먼저 받고 커밋 전 사용자 정보를 읽어
+ * 세션을 만들 수 있습니다. 커밋 후에 지우면 커밋 전 정보로 만든 세션은 함께 지워지고,
+ * 그 뒤 로그인은 무효화 순번이 바뀐 것을 보고 DB를 다시 읽습니다.
+ */
+@Service
+@Transactional
+public class PasswordResetService {
+    
+    private static final String INVALID_TOKEN = "재설정 토큰이 유효하지 않습니다";
+    private static final int TOKEN_BYTES = 32;
+    
+    private final ShardedUserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final SessionStore sessionStore;
+    private final long tokenTtlMinutes;
+    private final SecureRandom secureRandom = new SecureRandom();
+    
+    public PasswordResetService(ShardedUserRepository userRepository,
+                                PasswordEncoder passwordEncoder,
+                                SessionStore sessionStore,
+                                @Value("${password-reset.token-ttl-minutes:30}") long tokenTtlMinutes) {
+        if (tokenTtlMinutes <= 0) {
+            throw new IllegalArgumentException("password-reset.token-ttl-minutes는 0보다 커야 합니다");
+        }
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.sessionStore = sessionStore;
+        this.tokenTtlMinutes = tokenTtlMinutes;
+    }
+    
+    /**
+     * 재설정 토큰 발급 (관리자)
+     * 
+     * 대상 사용자는 재설정 필요 상태가 되고, 커밋 후 기존 세션은 모두 무효화됩니다.
+     * 
+     * @param userId 대상 사용자 ID
+     * @return 평문 토큰 + 만료 시각
+     */
+    public PasswordResetTokenResponse issueToken(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다"));
+        
+        byte[] random = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(random);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(tokenTtlMinutes);
+        
+        user.issuePasswordResetToken(hash(token), expiresAt);
+        userRepository.save(user); // 샤딩 사용 시 사용자 샤드에 UPDATE (비활성화 시 변경 감지와 동일)
+        removeSessionsAfterCommit(userId);
+        
+        return new PasswordResetTokenResponse(userId, token, expiresAt);
+    }
+    
+    /**
+     * 토큰으로 새 비밀번호 설정 (사용자)
+     * 
+     * 아이디가 없거나, 재설정 대상이 아니거나, 토큰이 틀리거나 만료된 경우 모두 같은 메시지로 실패합니다.
+     */
+    public void resetPassword(PasswordResetRequest request) {
+        User user = userRepository.findByUsername(request.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException(INVALID_TOKEN));
+        
+        if (!isValidToken(user, request.getToken())) {
+            throw new IllegalArgumentException(INVALID_TOKEN);
+        }
+        
+        user.updatePassword(passwordEncoder.encode(request.getNewPassword())); // 재설정 해제 + 토큰 폐기
+        userRepository.save(user);
+        removeSessionsAfterCommit(user.getId());
+    }
+    
+    private void removeSessionsAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sessionStore.removeSessionsByUserIds(List.of(userId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sessionStore.removeSessionsByUserIds(List.of(userId));
+            }
+        });
+    }
+    
+    private boolean isValidToken(User user, String token) {
+        if (!user.isPasswordResetRequired() || user.getPasswordResetTokenHash() == null) {
+            return false;
+        }
+        if (user.getPasswordResetTokenExpiresAt().isBefore(LocalDateTime.now())) {
+            return false;
+        }
+        return MessageDigest.isEqual( // 상수 시간 비교
+                user.getPasswordResetTokenHash().getBytes(StandardCharsets.US_ASCII),
+                hash(token).getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
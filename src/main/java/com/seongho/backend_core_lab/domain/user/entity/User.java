@@ -2,12 +2,15 @@ package com.seongho.backend_core_lab.domain.user.entity;
 
 import com.seongho.backend_core_lab.domain.user.enums.AuthProvider;
 import com.seongho.backend_core_lab.domain.user.enums.Role;
+import com.seongho.backend_core_lab.domain.user.search.UserSearchIndexListener;
+import com.seongho.backend_core_lab.global.auth.VerifiedCredentialCacheListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -17,28 +20,33 @@ import java.time.LocalDateTime;
  * 일반 로그인 사용자와 소셜 로그인 사용자를 모두 관리하는 테이블입니다.
  * 
  * <주요 필드 설명>
- * - id: 기본키, 자동 증가
+ * - id: 기본키, UserIdGenerator가 발급 (샤드 번호 포함, 전역 고유)
  * - username: 일반 로그인 시 사용하는 아이디 (소셜 로그인은 null 가능)
  * - password: 비밀번호 해시값 (소셜 로그인은 null 가능)
  * - email: 이메일 (모든 사용자 필수, 고유값)
  * - role: 권한 (ADMIN 또는 USER)
  * - provider: 인증 제공자 (LOCAL, GOOGLE, GITHUB 등)
  * - providerId: 소셜 로그인 시 제공자에서 받은 고유 ID
+ * - passwordResetRequired: 관리자가 비밀번호 재설정을 강제했는지 여부
+ * - passwordResetTokenHash / passwordResetTokenExpiresAt: 관리자가 발급한 1회용 재설정 토큰(SHA-256)과 만료 시각
  * - createdAt: 계정 생성 시간
  */
 @Entity
+@EntityListeners({
+        UserSearchIndexListener.class, // 가입/변경 시 관리자 검색 인덱스 갱신
+        VerifiedCredentialCacheListener.class // 변경 시 로그인 검증 캐시 항목 삭제
+})
 @Table(name = "users")  // 'user'는 예약어일 수 있으므로 'users' 사용
 @Getter // 모든 필드에 대한 Getter 메서드 자동 생성
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // JPA를 위한 기본 생성자, 외부 생성 방지
-public class User {
+public class User implements Persistable<Long> {
     
     /**
      * 기본키 (Primary Key)
-     * @GeneratedValue: 자동 증가 전략 사용
-     * IDENTITY: 데이터베이스의 AUTO_INCREMENT 기능 활용 (H2, MySQL 등)
+     * - DB의 AUTO_INCREMENT(IDENTITY) 대신 애플리케이션에서 발급 (ShardedUserRepository.newUserId)
+     * - 샤드가 여러 개여도 DB 간 조율 없이 전역 고유, ID만 보고 저장된 샤드를 알 수 있음
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
     /**
@@ -97,6 +105,27 @@ public class User {
     @Column(length = 255)
     private String providerId;
     
+    /**
+     * 비밀번호 재설정 필요 여부
+     * - 관리자 일괄 작업(비밀번호 강제 재설정)으로 true가 됨
+     * - true인 동안 로그인 불가, 비밀번호를 변경하면 false로 돌아감
+     */
+    @Column(nullable = false)
+    private boolean passwordResetRequired;
+    
+    /**
+     * 비밀번호 재설정 토큰 해시 (SHA-256 16진수)
+     * - 관리자가 발급한 1회용 토큰, 평문 토큰은 저장하지 않음
+     * - 비밀번호를 변경하면 null로 돌아감
+     */
+    @Column(length = 64)
+    private String passwordResetTokenHash;
+    
+    /**
+     * 비밀번호 재설정 토큰 만료 시각
+     */
+    private LocalDateTime passwordResetTokenExpiresAt;
+    
     /**
      * 계정 생성 시간
      * @CreationTimestamp: 엔티티 생성 시 자동으로 현재 시간 저장
@@ -114,8 +143,9 @@ public class User {
      * - provider의 기본값: LOCAL
      */
     @Builder
-    public User(String username, String password, String email, 
+    public User(Long id, String username, String password, String email, 
                Role role, AuthProvider provider, String providerId) {
+        this.id = id; // UserIdGenerator가 발급한 ID
         this.username = username; // 일반 로그인 시 사용하는 아이디
         this.password = password; // 비밀번호 해시값
         this.email = email; // 이메일
@@ -124,18 +154,47 @@ public class User {
         this.providerId = providerId; // 소셜 로그인 시 제공자에서 받은 고유 ID
     }
     
+    /**
+     * 새 엔티티 여부 (Spring Data의 save()가 persist/merge 중 하나를 고르는 기준)
+     * 
+     * ID를 직접 넣기 때문에 기본 판단(id == null)을 쓸 수 없습니다.
+     * createdAt은 INSERT 시점에 채워지므로, 아직 저장되지 않은 엔티티만 null입니다.
+     * → 새 사용자 저장 시 SELECT 없이 INSERT 1번
+     */
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
+    
     /**
      * 비밀번호 업데이트 메서드
      * - 비밀번호 변경 기능에서 사용
      * - 해시된 비밀번호를 전달받아야 함
+     * - flush 시 VerifiedCredentialCacheListener가 로그인 검증 캐시 항목을 삭제함
      */
     public void updatePassword(String encodedPassword) {
         this.password = encodedPassword;
+        this.passwordResetRequired = false; // 새 비밀번호 설정 시 재설정 요구 해제
+        this.passwordResetTokenHash = null; // 재설정 토큰은 1회용
+        this.passwordResetTokenExpiresAt = null;
+    }
+    
+    /**
+     * 비밀번호 재설정 토큰 발급 메서드
+     * - 관리자가 재설정 토큰을 발급할 때 사용 (PasswordResetService)
+     * - 재설정을 강제하므로 새 비밀번호를 설정할 때까지 로그인 불가
+     * - 이전에 발급한 토큰은 무효가 됨
+     */
+    public void issuePasswordResetToken(String tokenHash, LocalDateTime expiresAt) {
+        this.passwordResetRequired = true;
+        this.passwordResetTokenHash = tokenHash;
+        this.passwordResetTokenExpiresAt = expiresAt;
     }
     
     /**
      * 권한 변경 메서드
      * - 관리자가 사용자 권한을 변경할 때 사용
+     * - 여러 사용자를 한 번에 변경할 때는 UserRepository.updateRoleByIdIn 사용 (UPDATE 1번)
      */
     public void updateRole(Role role) {
         this.role = role;
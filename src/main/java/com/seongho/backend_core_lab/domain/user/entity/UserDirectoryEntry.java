@@ -0,0 +1,44 @@
+package com.seongho.backend_core_lab.domain.user.entity;
+
+import com.seongho.backend_core_lab.domain.user.enums.AuthProvider;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 보조 키 디렉터리 (샤딩 사용 시 디렉터리 DB에만 기록)
+ *
+ * users 테이블은 username 해시로 샤드를 나누므로, 다른 고유 키로는 어느 샤드인지 알 수 없습니다.
+ * 보조 키 → 사용자 ID를 전역으로 1곳에 저장해서
+ * - 고유성 검사(이메일 중복 등)를 디렉터리 DB 1번 조회로 처리하고
+ * - 조회는 디렉터리에서 찾은 사용자 ID의 샤드 1곳에만 보냅니다.
+ *
+ * <키 형식>
+ * - email:{이메일}
+ * - provider:{제공자}:{제공자 고유 ID}
+ */
+@Entity
+@Table(name = "user_directory")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserDirectoryEntry {
+
+    @Id
+    @Column(length = 300)
+    private String lookupKey;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    public static String emailKey(String email) {
+        return "email:" + email;
+    }
+
+    public static String providerKey(AuthProvider provider, String providerId) {
+        return "provider:" + provider.name() + ":" + providerId;
+    }
+}
@@ -0,0 +1,239 @@
+package com.seongho.backend_core_lab.domain.user.repository;
+
+import com.seongho.backend_core_lab.domain.user.entity.User;
+import com.seongho.backend_core_lab.domain.user.entity.UserDirectoryEntry;
+import com.seongho.backend_core_lab.domain.user.enums.AuthProvider;
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import com.seongho.backend_core_lab.domain.user.search.UserSearchRow;
+import com.seongho.backend_core_lab.domain.user.shard.UserIdGenerator;
+import com.seongho.backend_core_lab.domain.user.shard.UserShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 샤드를 고려한 User 저장소 (서비스는 UserRepository 대신 이 클래스를 사용)
+ *
+ * UserRepository와 같은 이름의 메서드를 제공하고, 각 호출을 알맞은 샤드로 보냅니다.
+ * 샤딩이 비활성화되어 있으면 UserRepository를 그대로 호출합니다. (SQL, 트랜잭션 모두 기존과 동일)
+ *
+ * <라우팅>
+ * - username 조회/존재 확인: username 해시 샤드 1곳
+ * - email, (provider, providerId): 디렉터리 DB 1번 + 찾은 사용자 ID의 샤드 1곳
+ * - 관리자 목록/집계: 모든 샤드 병렬 조회 후 id 순으로 병합 (scatter-gather)
+ * - ID 목록 대상 UPDATE: ID에 들어있는 샤드별로 나눠서 실행
+ *
+ * <트랜잭션>
+ * 샤딩 사용 시 각 호출은 샤드별 독립 트랜잭션으로 실행됩니다.
+ * 여러 샤드에 걸친 작업(일괄 UPDATE 등)은 샤드 단위로만 원자적입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ShardedUserRepository {
+
+    private final UserRepository userRepository;
+    private final UserDirectoryRepository userDirectoryRepository;
+    private final UserShardRouter userShardRouter;
+    private final UserIdGenerator userIdGenerator;
+
+    /**
+     * 새 사용자 ID 발급 (저장될 샤드 번호 포함)
+     */
+    public Long newUserId(String username, String email) {
+        return userIdGenerator.nextId(userShardRouter.shardForNewUser(username, email));
+    }
+
+    public Optional<User> findById(Long id) {
+        return userShardRouter.onShard(userShardRouter.shardOf(id), true, () -> userRepository.findById(id));
+    }
+
+    public Optional<UserLoginState> findLoginStateById(Long id) {
+        return userShardRouter.onShard(userShardRouter.shardOf(id), true, () -> userRepository.findLoginStateById(id));
+    }
+
+    public Optional<User> findByUsername(String username) {
+        return userShardRouter.onShard(userShardRouter.shardForKey(username), true,
+                () -> userRepository.findByUsername(username));
+    }
+
+    public Optional<User> findByEmail(String email) {
+        if (!userShardRouter.isSharded()) {
+            return userRepository.findByEmail(email);
+        }
+        return findByDirectoryKey(UserDirectoryEntry.emailKey(email));
+    }
+
+    public Optional<User> findByProviderAndProviderId(AuthProvider provider, String providerId) {
+        if (!userShardRouter.isSharded()) {
+            return userRepository.findByProviderAndProviderId(provider, providerId);
+        }
+        return findByDirectoryKey(UserDirectoryEntry.providerKey(provider, providerId));
+    }
+
+    public boolean existsByUsername(String username) {
+        return userShardRouter.onShard(userShardRouter.shardForKey(username), true,
+                () -> userRepository.existsByUsername(username));
+    }
+
+    public boolean existsByEmail(String email) {
+        if (!userShardRouter.isSharded()) {
+            return userRepository.existsByEmail(email);
+        }
+        return userShardRouter.onDirectory(true,
+                () -> userDirectoryRepository.existsById(UserDirectoryEntry.emailKey(email)));
+    }
+
+    /**
+     * 사용자 저장
+     *
+     * 샤딩 사용 시 새 사용자는
+     * 1. 디렉터리 DB에 보조 키 등록 (이미 있으면 DataIntegrityViolationException → 전역 고유성)
+     * 2. ID의 샤드에 INSERT
+     * 2번이 실패하면(같은 username 동시 가입 등) 1번에서 등록한 키를 삭제합니다.
+     */
+    public User save(User user) {
+        if (!userShardRouter.isSharded()) {
+            return userRepository.save(user);
+        }
+
+        int shard = userShardRouter.shardOf(user.getId());
+        if (!user.isNew()) {
+            return userShardRouter.onShard(shard, false, () -> userRepository.save(user));
+        }
+
+        List<String> keys = directoryKeys(user);
+        userShardRouter.onDirectory(false, () -> {
+            keys.forEach(key -> userDirectoryRepository.insert(key, user.getId()));
+            return null;
+        });
+        try {
+            return userShardRouter.onShard(shard, false, () -> userRepository.save(user));
+        } catch (RuntimeException e) {
+            userShardRouter.onDirectory(false, () -> {
+                userDirectoryRepository.deleteAllByIdInBatch(keys);
+                return null;
+            });
+            throw e;
+        }
+    }
+
+    /**
+     * 조건에 맞는 사용자 ID를 id 오름차순으로 chunk 1개만 조회 (샤드 병합)
+     *
+     * 샤드마다 같은 조건으로 size개씩 가져와서 합친 뒤 앞에서 size개만 사용합니다.
+     */
+    public List<Long> findIdsByFilterAfter(AuthProvider provider, Role role, Long lastId, Pageable pageable) {
+        List<List<Long>> perShard = userShardRouter.onAllShards(true,
+                shard -> userRepository.findIdsByFilterAfter(provider, role, lastId, pageable));
+        return mergeById(perShard, Long::longValue, pageable.getPageSize());
+    }
+
+    public long countByFilter(AuthProvider provider, Role role) {
+        return userShardRouter.onAllShards(true, shard -> userRepository.countByFilter(provider, role))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    public int updateRoleByIdIn(Role role, Collection<Long> ids) {
+        if (!userShardRouter.isSharded()) {
+            return userRepository.updateRoleByIdIn(role, ids);
+        }
+        int updated = 0;
+        for (Map.Entry<Integer, List<Long>> entry : groupByShard(ids).entrySet()) {
+            updated += updateRoleByIdIn(entry.getKey(), role, entry.getValue());
+        }
+        return updated;
+    }
+
+    /**
+     * 샤드 1곳의 사용자 권한 변경 (ids는 모두 shard에 있어야 함, groupByShard 결과 사용)
+     *
+     * 샤딩 사용 시 샤드 트랜잭션 1개로 커밋되고, 비활성화 시 호출한 쪽 트랜잭션에서 실행됩니다.
+     */
+    public int updateRoleByIdIn(int shard, Role role, Collection<Long> ids) {
+        return userShardRouter.onShard(shard, false, () -> userRepository.updateRoleByIdIn(role, ids));
+    }
+
+    public int requirePasswordResetByIdIn(Collection<Long> ids) {
+        if (!userShardRouter.isSharded()) {
+            return userRepository.requirePasswordResetByIdIn(ids);
+        }
+        int updated = 0;
+        for (Map.Entry<Integer, List<Long>> entry : groupByShard(ids).entrySet()) {
+            updated += requirePasswordResetByIdIn(entry.getKey(), entry.getValue());
+        }
+        return updated;
+    }
+
+    /**
+     * 샤드 1곳의 비밀번호 강제 재설정 (트랜잭션은 updateRoleByIdIn(shard, ...)과 동일)
+     */
+    public int requirePasswordResetByIdIn(int shard, Collection<Long> ids) {
+        return userShardRouter.onShard(shard, false, () -> userRepository.requirePasswordResetByIdIn(ids));
+    }
+
+    /**
+     * 검색 인덱스 구성용 (id, username, email)을 id 오름차순 chunk로 조회 (샤드 병합)
+     */
+    public List<UserSearchRow> findSearchRowsAfter(Long lastId, Pageable pageable) {
+        List<List<UserSearchRow>> perShard = userShardRouter.onAllShards(true,
+                shard -> userRepository.findSearchRowsAfter(lastId, pageable));
+        return mergeById(perShard, UserSearchRow::getId, pageable.getPageSize());
+    }
+
+    public boolean isSharded() {
+        return userShardRouter.isSharded();
+    }
+
+    /**
+     * 사용자 ID를 저장된 샤드별로 나눔 (샤드 번호 순, 샤드 안에서는 입력 순서 유지)
+     */
+    public Map<Integer, List<Long>> groupByShard(Collection<Long> ids) {
+        Map<Integer, List<Long>> byShard = new TreeMap<>(); // 샤드 번호 순으로 실행
+        for (Long id : ids) {
+            byShard.computeIfAbsent(userShardRouter.shardOf(id), shard -> new ArrayList<>()).add(id);
+        }
+        return byShard;
+    }
+
+    private Optional<User> findByDirectoryKey(String lookupKey) {
+        Optional<Long> userId = userShardRouter.onDirectory(true,
+                () -> userDirectoryRepository.findUserIdByLookupKey(lookupKey));
+        if (userId.isEmpty()) {
+            return Optional.empty();
+        }
+        return findById(userId.get());
+    }
+
+    private List<String> directoryKeys(User user) {
+        List<String> keys = new ArrayList<>(2);
+        keys.add(UserDirectoryEntry.emailKey(user.getEmail()));
+        if (user.getProviderId() != null) {
+            keys.add(UserDirectoryEntry.providerKey(user.getProvider(), user.getProviderId()));
+        }
+        return keys;
+    }
+
+    /**
+     * 샤드별 id 오름차순 목록을 합쳐서 앞에서 limit개
+     */
+    private static <T> List<T> mergeById(List<List<T>> perShard, ToLongFunction<T> id, int limit) {
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        List<T> merged = new ArrayList<>();
+        perShard.forEach(merged::addAll);
+        merged.sort(Comparator.comparingLong(id));
+        return (merged.size() > limit) ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+}
@@ -0,0 +1,34 @@
+package com.seongho.backend_core_lab.domain.user.repository;
+
+import com.seongho.backend_core_lab.domain.user.entity.UserDirectoryEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 사용자 보조 키 디렉터리 Repository (샤딩 사용 시에만 사용)
+ */
+@Repository
+public interface UserDirectoryRepository extends JpaRepository<UserDirectoryEntry, String> {
+
+    /**
+     * 보조 키 등록
+     *
+     * save()는 키가 이미 있는지 먼저 SELECT하므로 INSERT만 실행합니다.
+     * 이미 있는 키면 기본키 제약 조건 위반(DataIntegrityViolationException) → 고유성 보장
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_directory (lookup_key, user_id) VALUES (:lookupKey, :userId)",
+            nativeQuery = true)
+    int insert(@Param("lookupKey") String lookupKey, @Param("userId") Long userId);
+
+    /**
+     * 보조 키로 사용자 ID 조회
+     */
+    @Query("SELECT d.userId FROM UserDirectoryEntry d WHERE d.lookupKey = :lookupKey")
+    Optional<Long> findUserIdByLookupKey(@Param("lookupKey") String lookupKey);
+}
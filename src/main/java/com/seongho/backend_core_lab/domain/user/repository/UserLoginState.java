@@ -0,0 +1,16 @@
+package com.seongho.backend_core_lab.domain.user.repository;
+
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+
+/**
+ * 세션에 담기는 사용자 상태 프로젝션 (권한, 비밀번호 재설정 필요 여부)
+ *
+ * 로그인 도중 사용자가 관리자 일괄 작업으로 바뀐 경우 다시 읽는 용도입니다.
+ * 엔티티가 아니므로 영속성 컨텍스트에 이미 있는 이전 User 객체가 아닌 DB의 현재 값을 읽습니다.
+ */
+public interface UserLoginState {
+
+    Role getRole();
+
+    boolean isPasswordResetRequired();
+}
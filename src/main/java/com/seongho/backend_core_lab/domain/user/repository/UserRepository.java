@@ -2,9 +2,17 @@ package com.seongho.backend_core_lab.domain.user.repository;
 
 import com.seongho.backend_core_lab.domain.user.entity.User;
 import com.seongho.backend_core_lab.domain.user.enums.AuthProvider;
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import com.seongho.backend_core_lab.domain.user.search.UserSearchRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -87,4 +95,92 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 존재하면 true, 없으면 false
      */
     boolean existsByEmail(String email);
+    
+    /**
+     * 조건에 맞는 사용자 ID를 id 오름차순으로 한 덩어리(chunk)만 조회
+     * 
+     * 사용 시나리오: 관리자 일괄 작업에서 대상 사용자를 chunk 단위로 훑기 (keyset 페이지네이션)
+     * 
+     * @param provider 인증 제공자 조건 (null이면 조건 없음)
+     * @param role 현재 권한 조건 (null이면 조건 없음)
+     * @param lastId 이전 chunk의 마지막 ID (처음에는 0)
+     * @param pageable chunk 크기 (PageRequest.of(0, size))
+     * @return 사용자 ID 목록 (엔티티를 로딩하지 않음)
+     * 
+     * OFFSET 대신 id > lastId 조건을 사용하므로 뒤쪽 chunk도 인덱스로 바로 찾아감
+     */
+    @Query("SELECT u.id FROM User u " +
+            "WHERE (:provider IS NULL OR u.provider = :provider) " +
+            "AND (:role IS NULL OR u.role = :role) " +
+            "AND u.id > :lastId " +
+            "ORDER BY u.id")
+    List<Long> findIdsByFilterAfter(@Param("provider") AuthProvider provider,
+                                    @Param("role") Role role,
+                                    @Param("lastId") Long lastId,
+                                    Pageable pageable);
+    
+    /**
+     * 조건에 맞는 사용자 수
+     * 
+     * 사용 시나리오: 관리자 일괄 작업의 진행률(전체 대상 수) 계산
+     */
+    @Query("SELECT COUNT(u) FROM User u " +
+            "WHERE (:provider IS NULL OR u.provider = :provider) " +
+            "AND (:role IS NULL OR u.role = :role)")
+    long countByFilter(@Param("provider") AuthProvider provider, @Param("role") Role role);
+    
+    /**
+     * 여러 사용자의 권한을 한 번에 변경
+     * 
+     * 사용 시나리오: 관리자 일괄 권한 변경
+     * 
+     * @param role 변경할 권한
+     * @param ids 대상 사용자 ID 목록 (chunk 단위로 전달)
+     * @return 변경된 행 수
+     * 
+     * User.updateRole()은 엔티티를 하나씩 로딩 후 더티 체킹으로 UPDATE를 1건씩 실행하지만
+     * 이 메서드는 엔티티 로딩 없이 UPDATE 1번으로 처리
+     * - 실제 실행 쿼리: UPDATE users SET role = ? WHERE id IN (?, ?, ...)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.role = :role WHERE u.id IN :ids")
+    int updateRoleByIdIn(@Param("role") Role role, @Param("ids") Collection<Long> ids);
+    
+    /**
+     * 여러 사용자에게 비밀번호 재설정을 한 번에 강제
+     * 
+     * 사용 시나리오: 관리자 일괄 비밀번호 강제 재설정 (예: 특정 provider 전체)
+     * 
+     * @param ids 대상 사용자 ID 목록 (chunk 단위로 전달)
+     * @return 변경된 행 수
+     * 
+     * - 실제 실행 쿼리: UPDATE users SET password_reset_required = true WHERE id IN (?, ?, ...)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.passwordResetRequired = true WHERE u.id IN :ids")
+    int requirePasswordResetByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * 사용자의 현재 권한 / 비밀번호 재설정 필요 여부 조회
+     * 
+     * 사용 시나리오: 로그인 도중 관리자 일괄 작업으로 사용자 정보가 바뀐 경우 다시 읽기
+     * 
+     * @param id 사용자 ID
+     * @return 프로젝션 (영속성 컨텍스트의 User 엔티티가 아닌 DB의 현재 값)
+     */
+    @Query("SELECT u.role AS role, u.passwordResetRequired AS passwordResetRequired FROM User u WHERE u.id = :id")
+    Optional<UserLoginState> findLoginStateById(@Param("id") Long id);
+    
+    /**
+     * 검색 인덱스 구성용 (id, username, email)을 id 오름차순 chunk로 조회
+     * 
+     * 사용 시나리오: 애플리케이션 시작 시 관리자 사용자 검색 인덱스 구성
+     * 
+     * @param lastId 이전 chunk의 마지막 ID (처음에는 0)
+     * @param pageable chunk 크기
+     * @return 필요한 컬럼만 담은 프로젝션 목록 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     */
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email FROM User u " +
+            "WHERE u.id > :lastId ORDER BY u.id")
+    List<UserSearchRow> findSearchRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
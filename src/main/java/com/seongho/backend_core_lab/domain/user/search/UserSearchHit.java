@@ -0,0 +1,20 @@
+package com.seongho.backend_core_lab.domain.user.search;
+
+import lombok.Getter;
+
+/**
+ * 사용자 검색 결과 1건
+ */
+@Getter
+public class UserSearchHit {
+
+    private final Long userId;
+    private final String username;
+    private final String email;
+
+    public UserSearchHit(Long userId, String username, String email) {
+        this.userId = userId;
+        this.username = username;
+        this.email = email;
+    }
+}
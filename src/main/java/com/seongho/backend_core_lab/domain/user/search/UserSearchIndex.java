@@ -0,0 +1,416 @@
+package com.seongho.backend_core_lab.domain.user.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 관리자용 사용자 검색 인덱스 (username / email 접두어 + 부분 문자열 검색)
+ *
+ * LIKE '%term%'는 users 테이블 전체를 읽어야 하므로, 프로세스 메모리에 3-gram 역색인을 유지합니다.
+ *
+ * <구조>
+ * - 사용자마다 내부 문서 번호(docId, 0부터 증가)를 부여
+ * - 3-gram → docId 정렬 배열(int[], posting list)
+ * - 문자열 앞에 PAD 문자 2개를 붙여서 색인 → "^^a", "^ab" 3-gram으로 1~2글자 접두어 검색도 처리
+ *
+ * <검색>
+ * 1. 검색어의 3-gram 중 posting list가 가장 짧은 것을 후보로 사용
+ * 2. 후보 문서를 실제 문자열과 비교해서 확인 + 점수 부여
+ *    (username 접두어 > username 포함 > email 접두어 > email 포함)
+ * 3. 상위 K개 반환 - username 접두어 일치가 K개 모이면 즉시 종료, 후보는 최대 MAX_CANDIDATES개만 확인
+ *
+ * <갱신>
+ * - username/email이 바뀌면 기존 문서는 삭제 표시 후 새 문서로 추가 (posting list는 append만 함)
+ * - 삭제 표시된 문서가 많아지면 전체 재구성
+ *
+ * 읽기/쓰기는 ReadWriteLock으로 보호합니다. (검색은 동시에 여러 개 가능)
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final char PAD = '\u0001'; // 접두어 표시용 패딩 (실제 입력에 나오지 않는 문자)
+    private static final int MAX_CANDIDATES = 50_000; // 검색 1번에 확인하는 최대 후보 수
+    private static final int INITIAL_DOCS = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, PostingList> postings = new HashMap<>(); // 3-gram 키 → posting list
+    private final UserDocMap docByUserId = new UserDocMap();
+    private final BitSet deadDocs = new BitSet();
+
+    private long[] userIds = new long[INITIAL_DOCS];
+    private String[] usernames = new String[INITIAL_DOCS];
+    private String[] emails = new String[INITIAL_DOCS];
+    private int docCount;
+    private int deadCount;
+
+    /**
+     * 사용자 추가 또는 갱신
+     *
+     * 같은 값으로 이미 색인되어 있으면 아무것도 하지 않습니다.
+     */
+    public void upsert(long userId, String username, String email) {
+        lock.writeLock().lock();
+        try {
+            int existing = docByUserId.get(userId);
+            if (existing >= 0) {
+                if (equals(usernames[existing], username) && equals(emails[existing], email)) {
+                    return;
+                }
+                markDead(existing);
+            }
+            addDocument(userId, username, email);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 삭제
+     */
+    public void remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            int existing = docByUserId.get(userId);
+            if (existing >= 0) {
+                markDead(existing);
+                docByUserId.put(userId, UserDocMap.ABSENT);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * username / email 검색
+     *
+     * @param query 검색어 (1글자 이상, 대소문자 무시)
+     * @param limit 최대 결과 수
+     * @return 점수 순(동점이면 가입 순) 상위 결과
+     */
+    public List<UserSearchHit> search(String query, int limit) {
+        String term = (query != null) ? query.trim().toLowerCase(Locale.ROOT) : "";
+        if (term.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            PostingList candidates = rarestPostingList(term);
+            if (candidates == null) {
+                return List.of();
+            }
+
+            TopK top = new TopK(limit);
+            int checked = Math.min(candidates.size, MAX_CANDIDATES);
+            for (int i = 0; i < checked; i++) {
+                int doc = candidates.docs[i];
+                if (deadDocs.get(doc)) {
+                    continue;
+                }
+                int score = score(doc, term);
+                if (score >= 0) {
+                    top.offer(doc, score);
+                    if (top.isFullOfBestScore()) {
+                        break; // 더 좋은 결과가 나올 수 없음
+                    }
+                }
+            }
+
+            List<UserSearchHit> hits = new ArrayList<>(top.size);
+            for (int i = 0; i < top.size; i++) {
+                int doc = top.docs[i];
+                hits.add(new UserSearchHit(userIds[doc], usernames[doc], emails[doc]));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 크기와 메모리 사용량 추정치
+     */
+    public UserSearchIndexStats stats() {
+        lock.readLock().lock();
+        try {
+            long postingEntries = 0;
+            long postingBytes = 0;
+            for (PostingList list : postings.values()) {
+                postingEntries += list.size;
+                postingBytes += 16 + (long) list.docs.length * 4 // int[]
+                        + 32 // PostingList 객체
+                        + 48; // HashMap 항목 + Long 키
+            }
+
+            long documentBytes = (long) userIds.length * 8 + (long) usernames.length * 4 + (long) emails.length * 4;
+            long stringBytes = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                stringBytes += stringBytes(usernames[doc]) + stringBytes(emails[doc]);
+            }
+            long mapBytes = docByUserId.memoryBytes();
+
+            int liveUsers = docCount - deadCount;
+            long totalBytes = postingBytes + documentBytes + stringBytes + mapBytes;
+            long bytesPerMillionUsers = (liveUsers > 0) ? totalBytes * 1_000_000L / liveUsers : 0L;
+
+            return new UserSearchIndexStats(liveUsers, deadCount, postings.size(), postingEntries,
+                    totalBytes, bytesPerMillionUsers);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDocument(long userId, String username, String email) {
+        if (docCount == userIds.length) {
+            int capacity = docCount + (docCount >> 1);
+            userIds = Arrays.copyOf(userIds, capacity);
+            usernames = Arrays.copyOf(usernames, capacity);
+            emails = Arrays.copyOf(emails, capacity);
+        }
+
+        int doc = docCount++;
+        userIds[doc] = userId;
+        usernames[doc] = username;
+        emails[doc] = email;
+        docByUserId.put(userId, doc);
+
+        indexField(doc, username);
+        indexField(doc, email);
+    }
+
+    private void indexField(int doc, String value) {
+        if (value == null) {
+            return; // 소셜 로그인 사용자는 username이 null
+        }
+        String padded = "" + PAD + PAD + value.toLowerCase(Locale.ROOT);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            postings.computeIfAbsent(gram(padded, i), key -> new PostingList()).add(doc);
+        }
+    }
+
+    private void markDead(int doc) {
+        if (!deadDocs.get(doc)) {
+            deadDocs.set(doc);
+            deadCount++;
+            usernames[doc] = null; // 문자열 메모리 해제
+            emails[doc] = null;
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서가 전체의 1/4을 넘으면 살아있는 문서만으로 재구성
+     */
+    private void compactIfNeeded() {
+        if (deadCount < 1_000 || deadCount * 4 < docCount) {
+            return;
+        }
+        long[] oldUserIds = Arrays.copyOf(userIds, docCount);
+        String[] oldUsernames = Arrays.copyOf(usernames, docCount);
+        String[] oldEmails = Arrays.copyOf(emails, docCount);
+        BitSet oldDead = (BitSet) deadDocs.clone();
+        int oldCount = docCount;
+
+        postings.clear();
+        deadDocs.clear();
+        docByUserId.clear();
+        docCount = 0;
+        deadCount = 0;
+        for (int doc = 0; doc < oldCount; doc++) {
+            if (!oldDead.get(doc)) {
+                addDocument(oldUserIds[doc], oldUsernames[doc], oldEmails[doc]);
+            }
+        }
+    }
+
+    /**
+     * 검색어의 3-gram 중 posting list가 가장 짧은 것
+     * - 1글자: PAD PAD c (접두어)
+     * - 2글자: PAD c1 c2 (접두어)
+     * - 3글자 이상: 검색어 안의 모든 3-gram (부분 문자열)
+     *
+     * @return 하나라도 없는 3-gram이 있으면 null (일치하는 사용자 없음)
+     */
+    private PostingList rarestPostingList(String term) {
+        String gramSource = (term.length() >= 3) ? term : (term.length() == 2 ? PAD + term : "" + PAD + PAD + term);
+        PostingList rarest = null;
+        for (int i = 0; i + 3 <= gramSource.length(); i++) {
+            PostingList list = postings.get(gram(gramSource, i));
+            if (list == null) {
+                return null;
+            }
+            if (rarest == null || list.size < rarest.size) {
+                rarest = list;
+            }
+        }
+        return rarest;
+    }
+
+    /**
+     * 0: username 접두어, 1: username 포함, 2: email 접두어, 3: email 포함, -1: 불일치
+     * (1~2글자 검색어는 접두어 일치만 인정)
+     */
+    private int score(int doc, String term) {
+        boolean prefixOnly = term.length() < 3;
+        int usernameScore = matchScore(usernames[doc], term, prefixOnly);
+        if (usernameScore >= 0) {
+            return usernameScore;
+        }
+        int emailScore = matchScore(emails[doc], term, prefixOnly);
+        return (emailScore >= 0) ? emailScore + 2 : -1;
+    }
+
+    private static int matchScore(String value, String term, boolean prefixOnly) {
+        if (value == null || value.length() < term.length()) {
+            return -1;
+        }
+        if (value.regionMatches(true, 0, term, 0, term.length())) {
+            return 0;
+        }
+        if (prefixOnly) {
+            return -1;
+        }
+        for (int i = 1; i + term.length() <= value.length(); i++) {
+            if (value.regionMatches(true, i, term, 0, term.length())) {
+                return 1;
+            }
+        }
+        return -1;
+    }
+
+    private static long gram(String value, int start) {
+        return ((long) value.charAt(start) << 32) | ((long) value.charAt(start + 1) << 16) | value.charAt(start + 2);
+    }
+
+    private static boolean equals(String a, String b) {
+        return (a == null) ? b == null : a.equals(b);
+    }
+
+    private static long stringBytes(String value) {
+        return (value == null) ? 0 : 24 + 16 + value.length(); // String 객체 + byte[] (LATIN1 기준)
+    }
+
+    /**
+     * docId 정렬 배열 (docId는 증가하는 순서로만 추가됨)
+     */
+    private static class PostingList {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                return; // 같은 문서의 username/email에 같은 3-gram이 또 나온 경우
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size + (size >> 1) + 1);
+            }
+            docs[size++] = doc;
+        }
+    }
+
+    /**
+     * 상위 K개 (점수 오름차순, 동점이면 docId 오름차순)
+     */
+    private static class TopK {
+
+        private final int[] docs;
+        private final int[] scores;
+        private int size;
+
+        TopK(int limit) {
+            this.docs = new int[limit];
+            this.scores = new int[limit];
+        }
+
+        void offer(int doc, int score) {
+            if (size == docs.length && score >= scores[size - 1]) {
+                return; // 후보가 docId 순으로 들어오므로 동점이면 기존 것이 우선
+            }
+            int position = (size < docs.length) ? size++ : size - 1;
+            while (position > 0 && scores[position - 1] > score) {
+                docs[position] = docs[position - 1];
+                scores[position] = scores[position - 1];
+                position--;
+            }
+            docs[position] = doc;
+            scores[position] = score;
+        }
+
+        boolean isFullOfBestScore() {
+            return size == docs.length && scores[size - 1] == 0;
+        }
+    }
+
+    /**
+     * 사용자 ID → docId (long → int, open addressing)
+     * 사용자 ID는 1 이상이므로 0을 빈 슬롯으로 사용
+     */
+    private static class UserDocMap {
+
+        static final int ABSENT = -1;
+
+        private long[] keys = new long[INITIAL_DOCS * 2];
+        private int[] values = new int[INITIAL_DOCS * 2];
+        private int size;
+
+        int get(long userId) {
+            int slot = slot(userId);
+            return (keys[slot] == userId) ? values[slot] : ABSENT;
+        }
+
+        void put(long userId, int doc) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int slot = slot(userId);
+            if (keys[slot] != userId) {
+                keys[slot] = userId;
+                size++;
+            }
+            values[slot] = doc;
+        }
+
+        void clear() {
+            Arrays.fill(keys, 0L);
+            size = 0;
+        }
+
+        long memoryBytes() {
+            return 16 + (long) keys.length * 8 + 16 + (long) values.length * 4;
+        }
+
+        private int slot(long userId) {
+            int mask = keys.length - 1;
+            int slot = (int) (userId * 0x9E3779B97F4A7C15L >>> 32) & mask;
+            while (keys[slot] != 0L && keys[slot] != userId) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0L) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+    }
+}
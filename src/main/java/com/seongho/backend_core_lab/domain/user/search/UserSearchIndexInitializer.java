@@ -0,0 +1,51 @@
+package com.seongho.backend_core_lab.domain.user.search;
+
+import com.seongho.backend_core_lab.domain.user.repository.ShardedUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 users 테이블로 검색 인덱스 구성
+ *
+ * 엔티티 대신 (id, username, email) 프로젝션을 id 순 chunk로 읽습니다.
+ * 구성 도중 가입한 사용자는 UserSearchIndexListener가 따로 반영하고,
+ * 중복으로 들어와도 UserSearchIndex.upsert가 무시합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndexInitializer {
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    private final ShardedUserRepository userRepository; // 샤딩 사용 시 모든 샤드를 id 순으로 병합
+    private final UserSearchIndex userSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.nanoTime();
+        long lastId = 0L;
+        int indexed = 0;
+
+        while (true) {
+            List<UserSearchRow> rows = userRepository.findSearchRowsAfter(lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (UserSearchRow row : rows) {
+                userSearchIndex.upsert(row.getId(), row.getUsername(), row.getEmail());
+            }
+            indexed += rows.size();
+            lastId = rows.get(rows.size() - 1).getId();
+        }
+
+        log.info("[UserSearch] 검색 인덱스 구성 완료 - 사용자: {}명, 소요: {}ms",
+                indexed, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,54 @@
+package com.seongho.backend_core_lab.domain.user.search;
+
+import com.seongho.backend_core_lab.domain.user.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티 변경을 검색 인덱스에 반영하는 JPA 엔티티 리스너
+ *
+ * User의 @EntityListeners로 등록됩니다.
+ * 스프링 부트가 Hibernate에 SpringBeanContainer를 설정하므로 생성자 주입이 가능합니다.
+ *
+ * 트랜잭션 안이면 커밋 후에 반영 → 롤백된 사용자가 검색되지 않음
+ * (JPQL 일괄 UPDATE는 리스너를 거치지 않지만 username/email을 바꾸지 않으므로 영향 없음)
+ */
+public class UserSearchIndexListener {
+
+    private final UserSearchIndex userSearchIndex;
+
+    public UserSearchIndexListener(UserSearchIndex userSearchIndex) {
+        this.userSearchIndex = userSearchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(User user) {
+        Long userId = user.getId();
+        String username = user.getUsername();
+        String email = user.getEmail();
+        afterCommit(() -> userSearchIndex.upsert(userId, username, email));
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        Long userId = user.getId();
+        afterCommit(() -> userSearchIndex.remove(userId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
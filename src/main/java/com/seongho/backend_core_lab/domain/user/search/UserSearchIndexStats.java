@@ -0,0 +1,29 @@
+package com.seongho.backend_core_lab.domain.user.search;
+
+import lombok.Getter;
+
+/**
+ * 사용자 검색 인덱스 통계 (GET /admin/users/search/stats)
+ *
+ * 메모리 값은 객체 헤더/참조 크기를 가정한 추정치입니다 (64bit JVM, compressed oops).
+ */
+@Getter
+public class UserSearchIndexStats {
+
+    private final int users; // 색인된 사용자 수
+    private final int deadDocuments; // 삭제 표시된(재구성 대기) 문서 수
+    private final int grams; // 서로 다른 3-gram 수
+    private final long postingEntries; // posting list 항목 총합
+    private final long estimatedBytes; // 인덱스 전체 추정 메모리
+    private final long estimatedBytesPerMillionUsers; // 사용자 100만 명 기준 환산
+
+    public UserSearchIndexStats(int users, int deadDocuments, int grams, long postingEntries,
+                                long estimatedBytes, long estimatedBytesPerMillionUsers) {
+        this.users = users;
+        this.deadDocuments = deadDocuments;
+        this.grams = grams;
+        this.postingEntries = postingEntries;
+        this.estimatedBytes = estimatedBytes;
+        this.estimatedBytesPerMillionUsers = estimatedBytesPerMillionUsers;
+    }
+}
@@ -0,0 +1,13 @@
+package com.seongho.backend_core_lab.domain.user.search;
+
+/**
+ * 검색 인덱스 구성용 프로젝션 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public interface UserSearchRow {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+}
@@ -0,0 +1,120 @@
+package com.seongho.backend_core_lab.domain.user.shard;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자 ID 생성기 (DB IDENTITY 없이 전역 고유)
+ *
+ * <비트 구성 (53비트 - JavaScript Number로도 정확히 표현됨)>
+ * [31비트: 2025-01-01 이후 경과 초][5비트: 샤드][5비트: 워커][12비트: 순번]
+ *
+ * - 샤드 번호가 ID에 들어있으므로 ID만 보고 저장된 샤드를 알 수 있음 (shardOf)
+ * - 초 단위로 시간 순 증가 → 샤드를 합쳐 id 오름차순으로 읽어도 대략 가입 순서 (같은 초 안에서는 샤드 순)
+ *
+ * <고유성 조건>
+ * - 인스턴스 간 고유성은 워커 번호(datasource.sharding.worker-id)에만 의존 (DB IDENTITY처럼 DB가 보장하지 않음)
+ *   → 같은 DB를 쓰는 인스턴스가 여러 개면 반드시 인스턴스마다 다른 번호를 설정 (샤딩 비활성화 시에도 동일)
+ *   → 기본값이 없어서 설정하지 않으면 시작 실패 (application.properties는 로컬 단일 인스턴스용 0,
+ *     운영 프로필은 WORKER_ID 환경 변수 필수)
+ * - 1초에 4096개를 넘으면 다음 초가 될 때까지 대기 (미래의 초를 미리 쓰지 않음)
+ *   → 발급한 ID의 초는 항상 현재 시각 이하이므로, 재시작 후 같은 초의 ID를 다시 발급하지 않음
+ * - 시계가 뒤로 가면 마지막으로 사용한 초부터 이어서 발급하되, MAX_CLOCK_BACKWARD_SECONDS를 넘으면 발급 거부
+ *   (되감긴 상태에서 재시작하면 중복될 수 있으므로 차이를 작게 제한)
+ */
+@Component
+public class UserIdGenerator {
+
+    private static final long EPOCH_SECONDS = 1_735_689_600L; // 2025-01-01T00:00:00Z
+    static final long MAX_CLOCK_BACKWARD_SECONDS = 5;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int WORKER_BITS = 5;
+    private static final int SHARD_BITS = 5;
+
+    private static final int WORKER_SHIFT = SEQUENCE_BITS;
+    private static final int SHARD_SHIFT = SEQUENCE_BITS + WORKER_BITS;
+    private static final int TIME_SHIFT = SEQUENCE_BITS + WORKER_BITS + SHARD_BITS;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    static final int MAX_SHARDS = 1 << SHARD_BITS;
+    static final int MAX_WORKERS = 1 << WORKER_BITS;
+
+    private final long workerId;
+    private final LongSupplier clockMillis;
+
+    private long lastSecond; // 마지막으로 발급한 초 (EPOCH 기준)
+    private long sequence;
+
+    @Autowired
+    public UserIdGenerator(@Value("${datasource.sharding.worker-id:#{null}}") Integer workerId) {
+        this(workerId, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시계를 직접 제어할 때 사용
+    UserIdGenerator(Integer workerId, LongSupplier clockMillis) {
+        if (workerId == null) {
+            throw new IllegalArgumentException("datasource.sharding.worker-id를 설정해주세요 (인스턴스마다 다른 값)");
+        }
+        if (workerId < 0 || workerId >= MAX_WORKERS) {
+            throw new IllegalArgumentException("datasource.sharding.worker-id는 0 이상 " + MAX_WORKERS + " 미만이어야 합니다");
+        }
+        this.workerId = workerId;
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * 새 사용자 ID 발급
+     *
+     * @param shard 사용자가 저장될 샤드 번호
+     */
+    public synchronized long nextId(int shard) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("샤드 번호는 0 이상 " + MAX_SHARDS + " 미만이어야 합니다");
+        }
+        long now = currentSecond();
+        if (now > lastSecond) {
+            lastSecond = now;
+            sequence = 0;
+        } else if (++sequence > SEQUENCE_MASK) {
+            lastSecond = awaitSecondAfter(lastSecond); // 이번 초의 순번 소진
+            sequence = 0;
+        }
+        return (lastSecond << TIME_SHIFT) | ((long) shard << SHARD_SHIFT) | (workerId << WORKER_SHIFT) | sequence;
+    }
+
+    /**
+     * ID에 들어있는 샤드 번호
+     */
+    public static int shardOf(long userId) {
+        return (int) (userId >>> SHARD_SHIFT) & (MAX_SHARDS - 1);
+    }
+
+    /**
+     * 시계가 second보다 뒤가 될 때까지 대기 (이 인스턴스의 발급은 그동안 멈춤, 초당 4096개 상한)
+     */
+    private long awaitSecondAfter(long second) {
+        long now = currentSecond();
+        while (now <= second) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("사용자 ID 발급 대기 중 인터럽트되었습니다", e);
+            }
+            now = currentSecond();
+        }
+        return now;
+    }
+
+    private long currentSecond() {
+        long now = clockMillis.getAsLong() / 1000 - EPOCH_SECONDS;
+        if (lastSecond - now > MAX_CLOCK_BACKWARD_SECONDS) {
+            throw new IllegalStateException("시스템 시계가 " + (lastSecond - now) + "초 뒤로 이동해서 사용자 ID를 발급할 수 없습니다");
+        }
+        return now;
+    }
+}
@@ -0,0 +1,168 @@
+package com.seongho.backend_core_lab.domain.user.shard;
+
+import com.seongho.backend_core_lab.global.datasource.DataSourceShardingProperties;
+import com.seongho.backend_core_lab.global.datasource.ShardContext;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * users 샤드 선택 + 샤드별 트랜잭션 실행
+ *
+ * <샤드 키>
+ * - username이 있으면 username 해시, 없으면(소셜 로그인) email 해시로 저장 샤드 결정
+ * - 저장 샤드는 사용자 ID에 들어가므로(UserIdGenerator) ID로도 바로 찾아감
+ * - email, (provider, providerId)는 디렉터리 DB의 user_directory로 사용자 ID를 찾음
+ *
+ * <실행>
+ * - onShard / onDirectory: ShardContext 설정 후 새 트랜잭션(REQUIRES_NEW)에서 실행
+ *   → 호출한 쪽의 트랜잭션과 분리되어 샤드 1개에만 연결됨
+ * - onAllShards: 샤드마다 별도 스레드에서 병렬 실행 후 결과를 샤드 번호 순으로 모음 (scatter-gather)
+ *
+ * 샤딩이 비활성화되어 있으면 샤드는 1개(0번)이고, 모든 작업을 호출한 스레드/트랜잭션에서 그대로 실행합니다.
+ */
+@Component
+public class UserShardRouter {
+
+    private final boolean sharded;
+    private final int shardCount;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService scatterExecutor; // 샤딩 비활성화 시 null
+
+    public UserShardRouter(DataSourceShardingProperties properties, PlatformTransactionManager transactionManager) {
+        this.sharded = properties.isEnabled();
+        this.shardCount = sharded ? properties.getShards().size() : 1;
+
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.scatterExecutor = sharded ? Executors.newFixedThreadPool(shardCount, runnable -> {
+            Thread thread = new Thread(runnable, "shard-scatter");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdownNow();
+        }
+    }
+
+    public boolean isSharded() {
+        return sharded;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * 새 사용자를 저장할 샤드
+     */
+    public int shardForNewUser(String username, String email) {
+        return shardForKey((username != null) ? username : email);
+    }
+
+    /**
+     * username이 저장된 샤드 (소셜 로그인 사용자는 email)
+     */
+    public int shardForKey(String key) {
+        if (shardCount == 1) {
+            return 0;
+        }
+        int hash = key.hashCode(); // String.hashCode는 JVM/버전과 관계없이 같은 값 (명세로 고정)
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, shardCount);
+    }
+
+    /**
+     * 사용자 ID가 저장된 샤드
+     */
+    public int shardOf(long userId) {
+        return (shardCount == 1) ? 0 : UserIdGenerator.shardOf(userId);
+    }
+
+    /**
+     * 샤드 1개에서 실행
+     *
+     * @param readOnly 읽기 전용 트랜잭션 여부
+     */
+    public <T> T onShard(int shard, boolean readOnly, Supplier<T> work) {
+        if (!sharded) {
+            return work.get();
+        }
+        return runWithContext(shard, readOnly, work);
+    }
+
+    /**
+     * 디렉터리 DB에서 실행
+     */
+    public <T> T onDirectory(boolean readOnly, Supplier<T> work) {
+        if (!sharded) {
+            return work.get();
+        }
+        return runWithContext(null, readOnly, work);
+    }
+
+    /**
+     * 모든 샤드에서 병렬 실행
+     *
+     * @return 샤드 번호 순서의 결과 목록
+     */
+    public <T> List<T> onAllShards(boolean readOnly, IntFunction<T> work) {
+        if (!sharded) {
+            return List.of(work.apply(0));
+        }
+
+        List<Future<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(scatterExecutor.submit(() -> runWithContext(target, readOnly, () -> work.apply(target))));
+        }
+
+        List<T> results = new ArrayList<>(shardCount);
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("샤드 조회가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause; // 원래 예외(DataAccessException 등)를 그대로 전달
+            }
+            throw new IllegalStateException("샤드 조회에 실패했습니다", e.getCause());
+        }
+        return results;
+    }
+
+    private <T> T runWithContext(Integer shard, boolean readOnly, Supplier<T> work) {
+        Integer previous = ShardContext.get();
+        ShardContext.set(shard);
+        try {
+            return (readOnly ? readOnlyTransaction : writeTransaction).execute(status -> work.get());
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+}
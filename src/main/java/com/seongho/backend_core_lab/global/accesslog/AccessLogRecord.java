@@ -0,0 +1,50 @@
+package com.seongho.backend_core_lab.global.accesslog;
+
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import lombok.Getter;
+
+/**
+ * 접근 로그 1건 (요청당 1개)
+ *
+ * 요청 스레드에서는 값만 담아서 큐에 넣고,
+ * 문자열 포맷팅은 AccessLogger의 백그라운드 스레드에서 수행합니다.
+ */
+@Getter
+public class AccessLogRecord {
+
+    private final long timestampMillis;
+    private final String traceId;
+    private final String method;
+    private final String uri;
+    private final int status;
+    private final long durationMicros;
+    private final String username; // 인증되지 않은 요청은 null
+    private final Role role;
+
+    public AccessLogRecord(long timestampMillis, String traceId, String method, String uri, int status,
+                           long durationMicros, String username, Role role) {
+        this.timestampMillis = timestampMillis;
+        this.traceId = traceId;
+        this.method = method;
+        this.uri = uri;
+        this.status = status;
+        this.durationMicros = durationMicros;
+        this.username = username;
+        this.role = role;
+    }
+
+    /**
+     * 한 줄 key=value 형식 (grep/파싱하기 쉬운 형태)
+     * 예: ts=1700000000000 trace=3f2a... method=POST uri=/auth/login status=200 us=1532 user=- role=-
+     */
+    void appendTo(StringBuilder sb) {
+        sb.append("ts=").append(timestampMillis)
+                .append(" trace=").append(traceId)
+                .append(" method=").append(method)
+                .append(" uri=").append(uri)
+                .append(" status=").append(status)
+                .append(" us=").append(durationMicros)
+                .append(" user=").append(username != null ? username : "-")
+                .append(" role=").append(role != null ? role.name() : "-");
+    }
+}
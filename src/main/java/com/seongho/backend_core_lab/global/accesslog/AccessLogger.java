@@ -0,0 +1,157 @@
+package com.seongho.backend_core_lab.global.accesslog;
+
+import com.seongho.backend_core_lab.global.auth.SessionInfo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기 + 샘플링 접근 로그
+ *
+ * 기존에는 Filter/Interceptor가 요청마다 log.info를 여러 번 동기적으로 출력했습니다.
+ * 이제 요청 하나당 AccessLogRecord 1건만 만들어 큐에 넣고,
+ * 문자열 포맷팅과 실제 출력은 백그라운드 스레드 1개가 모아서 처리합니다.
+ *
+ * <샘플링>
+ * - 오류 응답(4xx, 5xx): 항상 기록 (100%)
+ * - 성공 응답: access-log.success-sample-rate 비율만 기록
+ *
+ * <큐가 가득 찬 경우>
+ * - 요청 스레드를 막지 않고 해당 레코드를 버린다 (droppedCount 증가)
+ *
+ * 출력 로거 이름은 ACCESS_LOG 이므로 logback 설정에서 별도 파일/어펜더로 분리할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class AccessLogger {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+
+    private static final int BATCH_SIZE = 256;
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+
+    private final boolean enabled;
+    private final double successSampleRate;
+    private final BlockingQueue<AccessLogRecord> queue;
+    private final LongAdder droppedCount = new LongAdder();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AccessLogger(@Value("${access-log.enabled:true}") boolean enabled,
+                        @Value("${access-log.success-sample-rate:1.0}") double successSampleRate,
+                        @Value("${access-log.queue-capacity:8192}") int queueCapacity) {
+        this.enabled = enabled;
+        this.successSampleRate = successSampleRate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::drainLoop, "access-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5)); // 남은 레코드 출력 대기
+        }
+    }
+
+    /**
+     * 요청 1건 기록 (AuthenticationFilter에서 요청 종료 시 호출)
+     *
+     * @param traceId 상관관계 ID
+     * @param method HTTP 메서드
+     * @param uri 요청 URI
+     * @param status 응답 상태 코드
+     * @param durationNanos 처리 시간
+     * @param sessionInfo 인증된 사용자 정보 (없으면 null)
+     */
+    public void log(String traceId, String method, String uri, int status, long durationNanos,
+                    SessionInfo sessionInfo) {
+        if (!enabled || !shouldLog(status)) {
+            return;
+        }
+
+        AccessLogRecord record = new AccessLogRecord(
+                System.currentTimeMillis(),
+                traceId,
+                method,
+                uri,
+                status,
+                durationNanos / 1_000,
+                sessionInfo != null ? sessionInfo.getUsername() : null,
+                sessionInfo != null ? sessionInfo.getRole() : null
+        );
+
+        if (!queue.offer(record)) {
+            droppedCount.increment(); // 요청 스레드는 절대 대기하지 않음
+        }
+    }
+
+    /**
+     * 큐가 가득 차서 버려진 레코드 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    private boolean shouldLog(int status) {
+        if (status >= 400) {
+            return true; // 오류 응답은 항상 기록
+        }
+        if (successSampleRate >= 1.0) {
+            return true;
+        }
+        return successSampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < successSampleRate;
+    }
+
+    private void drainLoop() {
+        List<AccessLogRecord> batch = new ArrayList<>(BATCH_SIZE);
+        StringBuilder sb = new StringBuilder(256);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                AccessLogRecord first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+
+                for (AccessLogRecord record : batch) {
+                    sb.setLength(0);
+                    record.appendTo(sb);
+                    ACCESS_LOG.info(sb.toString());
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("[AccessLog] 접근 로그 출력 실패", e); // 출력 실패로 스레드가 죽지 않도록
+                batch.clear();
+            }
+        }
+    }
+}
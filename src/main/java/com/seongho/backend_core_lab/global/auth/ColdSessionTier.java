@@ -0,0 +1,508 @@
+package com.seongho.backend_core_lab.global.auth;
+
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 세션 콜드 티어 (로컬 디스크, 압축 + 메모리 매핑)
+ *
+ * 오래 사용되지 않은 세션을 힙 밖으로 내보내는 저장소입니다.
+ * SessionStore가 유휴 세션을 모아서 demote()로 내려보내고,
+ * 다음 요청에서 take()로 다시 꺼내 핫 티어(힙)로 올립니다.
+ *
+ * <파일 구조>
+ * - 세그먼트 파일(segment-N.dat)을 고정 크기로 메모리 매핑해서 사용
+ * - 세그먼트 = 블록의 연속, 블록 = 세션 최대 MAX_RECORDS_PER_BLOCK개를 Deflate로 압축한 것
+ *   [compressedLength(int)][rawLength(int)][recordCount(int)][압축 데이터]
+ * - 인덱스(SessionIdIndex): 세션 UUID → (세그먼트 번호 << 32 | 블록 오프셋)
+ * - 사용자별 인덱스: 사용자 ID → 콜드 세션 UUID 목록 (long 배열, 사용자 단위 무효화용)
+ *
+ * <조회 비용 상한>
+ * - 콜드 조회 1번 = 인덱스 조회 + 블록 1개(최대 MAX_RECORDS_PER_BLOCK개) 압축 해제
+ *
+ * <공간 회수>
+ * - 꺼내거나 삭제된 세션은 세그먼트의 live 카운트만 줄임
+ * - live가 0이 된 세그먼트는 삭제, 대부분 비어 있는 세그먼트는 살아있는 세션만 새 세그먼트로 옮김(compact)
+ *
+ * <힙 사용량>
+ * - 콜드 세션 1개당 인덱스 슬롯 24바이트(적재율 0.6 → 실제 약 40~80바이트) + 사용자별 인덱스 16바이트
+ * - 콜드 세션이 있는 사용자 1명당 HashMap 항목 + long 배열 (약 80바이트)
+ *
+ * <디렉터리>
+ * - 지정한 디렉터리 아래에 인스턴스마다 새 하위 디렉터리(sessions-XXXX)를 만들어 사용
+ * - 같은 디렉터리를 쓰는 다른 인스턴스(또는 테스트 컨텍스트)의 파일은 건드리지 않음
+ * - close() 시 이 인스턴스가 만든 세그먼트와 하위 디렉터리만 삭제
+ *
+ * 모든 메서드는 this 락으로 직렬화됩니다. (콜드 조회는 드문 경로이므로 단순함을 우선)
+ * 서버 재시작 시 핫 티어와 마찬가지로 내용은 유지되지 않습니다.
+ */
+class ColdSessionTier implements AutoCloseable {
+
+    static final int MAX_RECORDS_PER_BLOCK = 128;
+
+    private static final int BLOCK_HEADER_BYTES = 12;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    private final Path directory;
+    private final int segmentCapacity;
+
+    private final SessionIdIndex index = new SessionIdIndex();
+    private final Map<Long, long[]> sessionIdsByUser = new HashMap<>(); // 사용자 ID -> [msb, lsb, msb, lsb, ...]
+    private final Map<Integer, Segment> segments = new HashMap<>();
+    private Segment activeSegment;
+    private int nextSegmentId;
+
+    /**
+     * @param baseDirectory 이 아래에 인스턴스 전용 하위 디렉터리를 만듦
+     * @param segmentCapacity 세그먼트 파일 1개 크기(바이트)
+     */
+    ColdSessionTier(Path baseDirectory, int segmentCapacity) {
+        this.segmentCapacity = segmentCapacity;
+        try {
+            Files.createDirectories(baseDirectory);
+            this.directory = Files.createTempDirectory(baseDirectory, "sessions-");
+        } catch (IOException e) {
+            throw new UncheckedIOException("콜드 세션 디렉터리를 준비할 수 없습니다: " + baseDirectory, e);
+        }
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    /**
+     * 세션 묶음을 블록 단위로 압축해서 디스크로 내려보냄
+     *
+     * @param batch 세션 ID → 세션 정보 (최대 MAX_RECORDS_PER_BLOCK개씩 블록으로 나눠 기록)
+     */
+    void demote(Map<String, SessionInfo> batch) {
+        demote(batch, sessionId -> true);
+    }
+
+    /**
+     * 세션 묶음 중 아직 내려보낼 대상인 세션만 기록
+     *
+     * 확인과 기록이 이 락 안에서 일어나므로, 확인 뒤에 삭제된 세션의 take()/removeByUser()는
+     * 기록이 끝난 뒤에 실행되어 방금 기록한 사본을 지웁니다.
+     *
+     * @param stillDemotable 세션 ID → 기록할지 여부 (묶음을 만든 뒤 삭제된 세션은 false)
+     */
+    synchronized void demote(Map<String, SessionInfo> batch, Predicate<String> stillDemotable) {
+        List<Map.Entry<String, SessionInfo>> block = new ArrayList<>(MAX_RECORDS_PER_BLOCK);
+        for (Map.Entry<String, SessionInfo> entry : batch.entrySet()) {
+            if (parse(entry.getKey()) == null) {
+                continue; // UUID 형식이 아닌 ID는 콜드 티어 대상이 아님
+            }
+            if (!stillDemotable.test(entry.getKey())) {
+                continue;
+            }
+            block.add(entry);
+            if (block.size() == MAX_RECORDS_PER_BLOCK) {
+                writeBlock(block);
+                block.clear();
+            }
+        }
+        if (!block.isEmpty()) {
+            writeBlock(block);
+        }
+    }
+
+    synchronized boolean contains(String sessionId) {
+        UUID uuid = parse(sessionId);
+        return uuid != null && index.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) != SessionIdIndex.ABSENT;
+    }
+
+    /**
+     * 세션을 콜드 티어에서 꺼냄 (꺼낸 세션은 콜드 티어에서 삭제됨)
+     *
+     * @return 세션 정보 (없으면 null)
+     */
+    synchronized SessionInfo take(String sessionId) {
+        UUID uuid = parse(sessionId);
+        if (uuid == null) {
+            return null;
+        }
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        long location = index.remove(msb, lsb);
+        if (location == SessionIdIndex.ABSENT) {
+            return null;
+        }
+
+        Segment segment = segments.get(segmentId(location));
+        SessionInfo found = null;
+        DataInputStream in = readBlock(segment, offset(location));
+        try {
+            int recordCount = segment.buffer.getInt(offset(location) + 8);
+            for (int i = 0; i < recordCount && found == null; i++) {
+                ColdRecord record = ColdRecord.read(in);
+                if (record.msb == msb && record.lsb == lsb) {
+                    found = record.info;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        release(segment);
+        if (found != null) {
+            removeUserSession(found.getUserId(), msb, lsb);
+        }
+        return found;
+    }
+
+    /**
+     * 사용자의 콜드 세션을 모두 삭제 (블록 압축 해제 없이 인덱스만 정리)
+     *
+     * @return 삭제된 세션 수
+     */
+    synchronized int removeByUser(long userId) {
+        long[] sessionIds = sessionIdsByUser.remove(userId);
+        if (sessionIds == null) {
+            return 0;
+        }
+        int removed = 0;
+        for (int i = 0; i < sessionIds.length; i += 2) {
+            long location = index.remove(sessionIds[i], sessionIds[i + 1]);
+            if (location != SessionIdIndex.ABSENT) {
+                release(segments.get(segmentId(location)));
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    synchronized int size() {
+        return index.size();
+    }
+
+    synchronized int userCount() {
+        return sessionIdsByUser.size();
+    }
+
+    synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    synchronized long diskBytes() {
+        long bytes = 0;
+        for (Segment segment : segments.values()) {
+            bytes += segment.writePosition;
+        }
+        return bytes;
+    }
+
+    /**
+     * 대부분 비어 있는 세그먼트 1개를 정리 (demote 주기마다 호출)
+     *
+     * 살아있는 세션이 1/4 미만인 세그먼트의 세션만 활성 세그먼트로 옮기고 파일을 삭제합니다.
+     * 한 번에 1개만 처리해서 콜드 조회가 락을 오래 기다리지 않도록 합니다.
+     */
+    synchronized void compactOne() {
+        Segment target = null;
+        for (Segment segment : segments.values()) {
+            if (segment != activeSegment && segment.liveRecords * 4 < segment.writtenRecords) {
+                target = segment;
+                break;
+            }
+        }
+        if (target == null) {
+            return;
+        }
+
+        Map<String, SessionInfo> live = new LinkedHashMap<>();
+        int offset = 0;
+        try {
+            while (offset < target.writePosition) {
+                long location = location(target.id, offset);
+                int recordCount = target.buffer.getInt(offset + 8);
+                DataInputStream in = readBlock(target, offset);
+                for (int i = 0; i < recordCount; i++) {
+                    ColdRecord record = ColdRecord.read(in);
+                    if (index.get(record.msb, record.lsb) == location) {
+                        live.put(new UUID(record.msb, record.lsb).toString(), record.info);
+                    }
+                }
+                offset += BLOCK_HEADER_BYTES + target.buffer.getInt(offset);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        segments.remove(target.id);
+        target.close();
+        demote(live); // 인덱스가 새 위치로 갱신됨
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments.values()) {
+            segment.close();
+        }
+        segments.clear();
+        activeSegment = null;
+        index.clear();
+        sessionIdsByUser.clear();
+        try {
+            Files.deleteIfExists(directory); // 이 인스턴스의 세그먼트는 위에서 모두 삭제됨
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeBlock(List<Map.Entry<String, SessionInfo>> entries) {
+        byte[] raw;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(entries.size() * 64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            for (Map.Entry<String, SessionInfo> entry : entries) {
+                ColdRecord.write(out, UUID.fromString(entry.getKey()), entry.getValue());
+            }
+            out.flush();
+            raw = bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] compressed = compress(raw);
+
+        int blockBytes = BLOCK_HEADER_BYTES + compressed.length;
+        if (activeSegment == null || activeSegment.writePosition + blockBytes > segmentCapacity) {
+            activeSegment = openSegment();
+        }
+
+        Segment segment = activeSegment;
+        int offset = segment.writePosition;
+        segment.buffer.putInt(offset, compressed.length);
+        segment.buffer.putInt(offset + 4, raw.length);
+        segment.buffer.putInt(offset + 8, entries.size());
+        segment.buffer.put(offset + BLOCK_HEADER_BYTES, compressed);
+        segment.writePosition += blockBytes;
+
+        long location = location(segment.id, offset);
+        for (Map.Entry<String, SessionInfo> entry : entries) {
+            UUID uuid = UUID.fromString(entry.getKey());
+            long previous = index.remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+            if (previous != SessionIdIndex.ABSENT) {
+                release(segments.get(segmentId(previous))); // 이전 위치는 더 이상 유효하지 않음 (compact로 옮긴 경우)
+            } else {
+                addUserSession(entry.getValue().getUserId(), uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+            }
+            index.put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), location);
+        }
+        segment.writtenRecords += entries.size();
+        segment.liveRecords += entries.size();
+    }
+
+    private DataInputStream readBlock(Segment segment, int offset) {
+        int compressedLength = segment.buffer.getInt(offset);
+        int rawLength = segment.buffer.getInt(offset + 4);
+        ByteBuffer compressed = segment.buffer.slice(offset + BLOCK_HEADER_BYTES, compressedLength);
+        return new DataInputStream(new ByteArrayInputStream(decompress(compressed, rawLength)));
+    }
+
+    private void release(Segment segment) {
+        if (segment == null) {
+            return;
+        }
+        segment.liveRecords--;
+        if (segment.liveRecords == 0 && segment != activeSegment) {
+            segments.remove(segment.id);
+            segment.close();
+        }
+    }
+
+    private Segment openSegment() {
+        int id = nextSegmentId++;
+        Segment segment = new Segment(id, directory.resolve(SEGMENT_PREFIX + id + SEGMENT_SUFFIX), segmentCapacity);
+        segments.put(id, segment);
+
+        Segment previous = activeSegment;
+        if (previous != null && previous.liveRecords == 0) {
+            segments.remove(previous.id); // 봉인 전에 이미 다 비어 있던 세그먼트
+            previous.close();
+        }
+        return segment;
+    }
+
+    private void addUserSession(long userId, long msb, long lsb) {
+        long[] current = sessionIdsByUser.get(userId);
+        long[] updated = (current == null) ? new long[2] : Arrays.copyOf(current, current.length + 2);
+        updated[updated.length - 2] = msb;
+        updated[updated.length - 1] = lsb;
+        sessionIdsByUser.put(userId, updated);
+    }
+
+    private void removeUserSession(long userId, long msb, long lsb) {
+        long[] current = sessionIdsByUser.get(userId);
+        if (current == null) {
+            return;
+        }
+        for (int i = 0; i < current.length; i += 2) {
+            if (current[i] == msb && current[i + 1] == lsb) {
+                if (current.length == 2) {
+                    sessionIdsByUser.remove(userId);
+                    return;
+                }
+                long[] updated = new long[current.length - 2];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 2, updated, i, current.length - i - 2);
+                sessionIdsByUser.put(userId, updated);
+                return;
+            }
+        }
+    }
+
+    private static byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(ByteBuffer compressed, int rawLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int position = 0;
+            while (position < rawLength && !inflater.finished()) {
+                position += inflater.inflate(raw, position, rawLength - position);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("콜드 세션 블록이 손상되었습니다", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static UUID parse(String sessionId) {
+        if (sessionId == null || sessionId.length() != 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(sessionId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long location(int segmentId, int offset) {
+        return ((long) segmentId << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int segmentId(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offset(long location) {
+        return (int) location;
+    }
+
+    /**
+     * 메모리 매핑된 세그먼트 파일 1개
+     */
+    private static class Segment {
+
+        private final int id;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+        private int writtenRecords;
+        private int liveRecords;
+
+        Segment(int id, Path path, int capacity) {
+            this.id = id;
+            this.path = path;
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity); // 채널을 닫아도 매핑은 유지됨
+            } catch (IOException e) {
+                throw new UncheckedIOException("콜드 세션 세그먼트를 만들 수 없습니다: " + path, e);
+            }
+        }
+
+        void close() {
+            try {
+                Files.deleteIfExists(path); // 매핑은 GC 시 해제됨
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 블록 안의 세션 레코드 1개 (직렬화 형식)
+     * [uuid msb][uuid lsb][userId][username 유무][username][role 이름][로그인 시각 초][나노초]
+     */
+    private static class ColdRecord {
+
+        private final long msb;
+        private final long lsb;
+        private final SessionInfo info;
+
+        private ColdRecord(long msb, long lsb, SessionInfo info) {
+            this.msb = msb;
+            this.lsb = lsb;
+            this.info = info;
+        }
+
+        static void write(DataOutputStream out, UUID sessionId, SessionInfo info) throws IOException {
+            out.writeLong(sessionId.getMostSignificantBits());
+            out.writeLong(sessionId.getLeastSignificantBits());
+            out.writeLong(info.getUserId());
+            out.writeBoolean(info.getUsername() != null); // 소셜 로그인 사용자는 username이 null
+            if (info.getUsername() != null) {
+                out.writeUTF(info.getUsername());
+            }
+            out.writeUTF(info.getRole().name()); // ENUM 순서가 아닌 이름으로 저장 (User.role과 같은 이유)
+            out.writeLong(info.getLoginTime().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(info.getLoginTime().getNano());
+        }
+
+        static ColdRecord read(DataInputStream in) throws IOException {
+            long msb = in.readLong();
+            long lsb = in.readLong();
+            long userId = in.readLong();
+            String username = in.readBoolean() ? in.readUTF() : null;
+            Role role = Role.valueOf(in.readUTF());
+            LocalDateTime loginTime = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            return new ColdRecord(msb, lsb, new SessionInfo(userId, username, role, loginTime));
+        }
+    }
+}
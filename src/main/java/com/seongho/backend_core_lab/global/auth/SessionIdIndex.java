@@ -0,0 +1,137 @@
+package com.seongho.backend_core_lab.global.auth;
+
+/**
+ * UUID 세션 ID → long 값 해시 테이블 (open addressing, linear probing)
+ *
+ * 콜드 티어 세션의 위치를 기록하는 인덱스입니다.
+ * 세션 ID 문자열과 Map.Entry 객체를 들고 있지 않고 long 배열 3개만 사용하므로
+ * 슬롯 1개당 24바이트입니다. (적재율 0.6 이하 → 세션 1개당 약 40~80바이트)
+ *
+ * - 키 (0, 0)은 빈 슬롯 표시로 사용 (UUID v4는 두 값이 모두 0일 수 없음)
+ * - 삭제는 backward shift 방식 → tombstone이 쌓이지 않음
+ * - 스레드 안전하지 않음 (ColdSessionTier의 락 안에서만 사용)
+ */
+final class SessionIdIndex {
+
+    static final long ABSENT = -1L;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double MAX_LOAD_FACTOR = 0.6;
+
+    private long[] msbs;
+    private long[] lsbs;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    SessionIdIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(long msb, long lsb) {
+        int slot = findSlot(msb, lsb);
+        return isEmpty(slot) ? ABSENT : values[slot];
+    }
+
+    void put(long msb, long lsb, long value) {
+        if (size + 1 > (mask + 1) * MAX_LOAD_FACTOR) {
+            resize((mask + 1) * 2);
+        }
+        int slot = findSlot(msb, lsb);
+        if (isEmpty(slot)) {
+            msbs[slot] = msb;
+            lsbs[slot] = lsb;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * @return 삭제된 값 (없으면 ABSENT)
+     */
+    long remove(long msb, long lsb) {
+        int slot = findSlot(msb, lsb);
+        if (isEmpty(slot)) {
+            return ABSENT;
+        }
+        long removed = values[slot];
+
+        // backward shift: 뒤따르는 항목 중 이 슬롯으로 당겨와야 하는 항목을 채워 넣음
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (isEmpty(next)) {
+                break;
+            }
+            int ideal = hash(msbs[next], lsbs[next]) & mask;
+            boolean stays = (hole <= next)
+                    ? (hole < ideal && ideal <= next)
+                    : (hole < ideal || ideal <= next);
+            if (stays) {
+                continue;
+            }
+            msbs[hole] = msbs[next];
+            lsbs[hole] = lsbs[next];
+            values[hole] = values[next];
+            hole = next;
+        }
+        msbs[hole] = 0L;
+        lsbs[hole] = 0L;
+        values[hole] = 0L;
+        size--;
+        return removed;
+    }
+
+    private int findSlot(long msb, long lsb) {
+        int slot = hash(msb, lsb) & mask;
+        while (!isEmpty(slot) && (msbs[slot] != msb || lsbs[slot] != lsb)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private boolean isEmpty(int slot) {
+        return msbs[slot] == 0L && lsbs[slot] == 0L;
+    }
+
+    private void resize(int capacity) {
+        long[] oldMsbs = msbs;
+        long[] oldLsbs = lsbs;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldMsbs.length; i++) {
+            if (oldMsbs[i] != 0L || oldLsbs[i] != 0L) {
+                int slot = findSlot(oldMsbs[i], oldLsbs[i]);
+                msbs[slot] = oldMsbs[i];
+                lsbs[slot] = oldLsbs[i];
+                values[slot] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    void clear() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        msbs = new long[capacity];
+        lsbs = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    static int hash(long msb, long lsb) { // 테스트에서 같은 슬롯으로 모이는 키를 만들 때도 사용
+        long h = msb ^ Long.rotateLeft(lsb, 32);
+        h ^= h >>> 33; // murmur3 fmix64
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
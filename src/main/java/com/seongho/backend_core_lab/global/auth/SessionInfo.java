@@ -22,6 +22,14 @@ public class SessionInfo {
         this.loginTime = LocalDateTime.now(); // 로그인 시간 저장
     }
     
+    // 콜드 티어(디스크)에서 세션을 복원할 때 사용 - 원래 로그인 시간 유지
+    SessionInfo(Long userId, String username, Role role, LocalDateTime loginTime) {
+        this.userId = userId;
+        this.username = username;
+        this.role = role;
+        this.loginTime = loginTime;
+    }
+    
     public boolean isAdmin() {
         return this.role == Role.ADMIN;
     }
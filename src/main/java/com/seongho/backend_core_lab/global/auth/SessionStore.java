@@ -1,67 +1,506 @@
 package com.seongho.backend_core_lab.global.auth;
 
+import com.seongho.backend_core_lab.global.trace.TraceContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
-@Component 
+/**
+ * 세션 저장소 (2단계: 핫 티어 + 콜드 티어)
+ *
+ * <핫 티어>
+ * - ConcurrentHashMap (힙), 최근에 사용된 세션
+ *
+ * <콜드 티어>
+ * - ColdSessionTier (로컬 디스크, 압축 + 메모리 매핑)
+ * - session.tiering.idle-threshold-seconds 동안 사용되지 않은 세션을 백그라운드에서 묶어서 내려보냄
+ * - getSession()에서 핫 티어에 없으면 콜드 티어를 확인하고, 있으면 핫 티어로 다시 올림
+ *
+ * → 힙 사용량이 "로그인한 전체 사용자"가 아니라 "최근 활동한 사용자" 기준으로 유지됨
+ *   (콜드 세션은 힙에 콜드 티어 인덱스 항목만 남음 - 크기는 ColdSessionTier 참고)
+ *
+ * <사용자별 인덱스>
+ * - 핫 세션: sessionIdsByUser (세션 ID 문자열)
+ * - 콜드 세션: ColdSessionTier 안의 사용자별 인덱스 (UUID를 long 2개로 저장)
+ * - 강등은 콜드 티어에 먼저 기록한 뒤 핫 쪽을 정리 → 이동 중에도 둘 중 하나에서는 찾을 수 있음
+ * - 핫 티어 제거와 핫 인덱스 제거는 사용자 인덱스 항목의 락 안에서 함께 수행
+ *   → 사용자 단위 무효화는 세션을 핫 인덱스(핫 티어에 있을 때)나 콜드 인덱스(이미 옮겨졌을 때) 중 한 곳에서 반드시 찾음
+ *
+ * <동시성>
+ * - 콜드 티어 접근(파일 읽기, 압축 해제, 콜드 티어 락)은 sessions 맵의 락 밖에서 수행
+ * - 승격: 빈 예약 항목을 putIfAbsent로 먼저 넣고, 콜드 티어에서 꺼낸 뒤 replace로 교체
+ *   - 그 사이 로그아웃이 예약 항목을 지우면 replace가 실패 → 로그아웃한 세션이 되살아나지 않음
+ *   - 같은 세션으로 동시에 온 요청은 예약 항목이 교체될 때까지 기다림 → 콜드 티어에서 한 번만 꺼냄
+ *
+ * <사용자 단위 무효화와 로그인 경합>
+ * - 로그인은 사용자를 읽기 전에 sessionVersion()을 받아두고 createSession(info, version)에 전달
+ * - removeSessionsByUserIds()는 세션을 지우기 전에 사용자별 무효화 순번을 기록
+ * - 로그인이 받아둔 순번 이후에 무효화된 사용자면 세션을 만들지 않음 → 로그인이 사용자 정보를 다시 읽음
+ *   (일괄 작업 커밋 전에 읽은 권한으로, 무효화가 끝난 뒤 세션을 만드는 경우를 막음)
+ */
+@Slf4j
+@Component
 public class SessionStore {
-    
-    private final Map<String, SessionInfo> sessions = new ConcurrentHashMap<>(); // ConcurrentHashMap: 멀티스레드 환경에서 안전한 HashMap
-    
+
+    private static final int MAX_INVALIDATION_RECORDS = 100_000; // 사용자별 무효화 순번 기록 최대 개수
+
+    private final Map<String, HotSession> sessions = new ConcurrentHashMap<>(); // ConcurrentHashMap: 멀티스레드 환경에서 안전한 HashMap
+
+    // 사용자 ID -> 핫 세션 ID 목록 (보조 인덱스, 콜드 세션은 ColdSessionTier가 따로 관리)
+    // 사용자 단위로 세션을 무효화할 때 전체 세션을 훑지 않기 위해 사용
+    private final Map<Long, Set<String>> sessionIdsByUser = new ConcurrentHashMap<>();
+
+    // 사용자 단위 무효화 순번 (로그인 중 사용자 정보가 바뀌었는지 확인)
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private final Map<Long, Long> invalidatedAtByUser = new ConcurrentHashMap<>(); // 사용자 ID -> 마지막 무효화 순번
+    private volatile long prunedSequence; // 이 순번 이하의 기록은 정리되었을 수 있음
+
+    private final ColdSessionTier coldTier; // 티어링 비활성화 시 null
+    private final long idleThresholdMillis;
+    private final long coldHitWarnNanos;
+    private final ScheduledExecutorService demotionScheduler;
+
+    // 콜드 티어 통계
+    private final LongAdder demotedCount = new LongAdder();
+    private final LongAdder promotedCount = new LongAdder();
+    private final LongAdder coldHitTotalNanos = new LongAdder();
+    private final LongAccumulator coldHitMaxNanos = new LongAccumulator(Long::max, 0L);
+
+    public SessionStore(@Value("${session.tiering.enabled:true}") boolean tieringEnabled,
+                        @Value("${session.tiering.idle-threshold-seconds:1800}") long idleThresholdSeconds,
+                        @Value("${session.tiering.demote-interval-seconds:60}") long demoteIntervalSeconds,
+                        @Value("${session.tiering.directory:${java.io.tmpdir}/backend-core-lab-sessions}") String directory,
+                        @Value("${session.tiering.segment-size-mb:8}") int segmentSizeMb,
+                        @Value("${session.tiering.cold-hit-warn-ms:5}") long coldHitWarnMillis) {
+        this(tieringEnabled ? new ColdSessionTier(Path.of(directory), segmentSizeMb * 1024 * 1024) : null,
+                idleThresholdSeconds, demoteIntervalSeconds, coldHitWarnMillis);
+    }
+
+    // 테스트에서 콜드 티어 동작(강등 중 끼어들기)을 직접 제어할 때 사용
+    SessionStore(ColdSessionTier coldTier, long idleThresholdSeconds, long demoteIntervalSeconds, long coldHitWarnMillis) {
+        this.idleThresholdMillis = TimeUnit.SECONDS.toMillis(idleThresholdSeconds);
+        this.coldHitWarnNanos = TimeUnit.MILLISECONDS.toNanos(coldHitWarnMillis);
+
+        this.coldTier = coldTier;
+        if (coldTier == null) {
+            this.demotionScheduler = null;
+            return;
+        }
+        this.demotionScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-demotion");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.demotionScheduler.scheduleWithFixedDelay(this::demoteIdleSessions,
+                demoteIntervalSeconds, demoteIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (demotionScheduler != null) {
+            demotionScheduler.shutdownNow();
+        }
+        if (coldTier != null) {
+            coldTier.close();
+        }
+    }
+
     /**
      * 새로운 세션 생성
-     * 
+     *
      * UUID를 사용하여 예측 불가능한 세션 ID 생성
      * ConcurrentHashMap에 저장하여 멀티스레드 환경에서 안전
-     * 
+     *
      * @param sessionInfo 저장할 세션 정보
      * @return 생성된 세션 ID
      */
     public String createSession(SessionInfo sessionInfo) {
         String sessionId = UUID.randomUUID().toString();
-        sessions.put(sessionId, sessionInfo);
+        sessions.put(sessionId, new HotSession(sessionInfo));
+        addToUserIndex(sessionInfo.getUserId(), sessionId);
         return sessionId;
     }
-    
+
+    /**
+     * 현재 무효화 순번
+     *
+     * 로그인 시 사용자 정보(권한, 재설정 필요 여부)를 읽기 전에 받아서 createSession(info, version)에 전달합니다.
+     */
+    public long sessionVersion() {
+        return invalidationSequence.get();
+    }
+
+    /**
+     * 사용자 정보를 읽은 뒤 무효화되지 않은 경우에만 세션 생성
+     *
+     * 세션을 만든 뒤에도 한 번 더 확인합니다. 확인과 저장 사이에 무효화가 끼어들면
+     * 무효화 쪽이 이 세션을 지우거나(인덱스에 이미 있음), 여기서 순번 변경을 보고 직접 지웁니다.
+     *
+     * @param sessionInfo 저장할 세션 정보
+     * @param version 사용자 정보를 읽기 전에 받은 sessionVersion()
+     * @return 생성된 세션 ID (그 사이 무효화되었으면 empty → 사용자 정보를 다시 읽고 재시도)
+     */
+    public Optional<String> createSession(SessionInfo sessionInfo, long version) {
+        if (isInvalidatedSince(sessionInfo.getUserId(), version)) {
+            return Optional.empty();
+        }
+        String sessionId = createSession(sessionInfo);
+        if (isInvalidatedSince(sessionInfo.getUserId(), version)) {
+            removeSession(sessionId);
+            return Optional.empty();
+        }
+        return Optional.of(sessionId);
+    }
+
     /**
      * 세션 ID로 세션 정보 조회
-     * 
+     *
+     * 핫 티어에 없으면 콜드 티어에서 찾아서 핫 티어로 올립니다.
+     *
      * @param sessionId 세션 ID
      * @return 세션 정보 (없으면 Optional.empty())
      */
     public Optional<SessionInfo> getSession(String sessionId) {
-        return Optional.ofNullable(sessions.get(sessionId));
+        HotSession hot = sessions.get(sessionId);
+        if (hot != null) {
+            if (hot.isReservation()) {
+                return Optional.ofNullable(awaitPromotion(sessionId)); // 다른 요청이 승격 중
+            }
+            hot.touch();
+            return Optional.of(hot.info);
+        }
+        if (coldTier == null || !coldTier.contains(sessionId)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(promote(sessionId));
     }
-    
+
     /**
      * 세션 삭제 (로그아웃)
-     * 
+     *
      * @param sessionId 삭제할 세션 ID
      */
     public void removeSession(String sessionId) {
-        sessions.remove(sessionId);
+        SessionInfo sessionInfo = removeFromTiers(sessionId);
+        if (sessionInfo != null) {
+            removeFromUserIndex(sessionInfo.getUserId(), sessionId);
+        }
     }
-    
+
     /**
-     * 세션 존재 여부 확인
-     * 
+     * 여러 사용자의 모든 세션 삭제
+     *
+     * 사용 시나리오: 관리자 일괄 작업(권한 변경, 비밀번호 강제 재설정) 후
+     * 변경 전 정보가 담긴 세션을 무효화
+     *
+     * 보조 인덱스(핫: sessionIdsByUser, 콜드: ColdSessionTier 사용자별 인덱스)를 사용하므로 전체 세션을 훑지 않음
+     *
+     * @param userIds 대상 사용자 ID 목록
+     * @return 삭제된 세션 수
+     */
+    public int removeSessionsByUserIds(Collection<Long> userIds) {
+        // 세션을 지우기 전에 기록 → 이후 createSession(info, version)이 이전 정보로 세션을 만들지 않음
+        long sequence = invalidationSequence.incrementAndGet();
+        for (Long userId : userIds) {
+            invalidatedAtByUser.merge(userId, sequence, Math::max);
+        }
+        pruneInvalidationRecords();
+
+        int removed = 0;
+        for (Long userId : userIds) {
+            Set<String> sessionIds = sessionIdsByUser.remove(userId);
+            if (sessionIds != null) {
+                for (String sessionId : sessionIds) {
+                    if (removeFromTiers(sessionId) != null) {
+                        removed++;
+                    }
+                }
+            }
+            if (coldTier != null) {
+                removed += coldTier.removeByUser(userId); // 압축 해제 없이 콜드 인덱스만 정리
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 세션 존재 여부 확인 (콜드 세션을 핫 티어로 올리지 않음)
+     *
      * @param sessionId 확인할 세션 ID
      * @return 존재하면 true
      */
     public boolean hasSession(String sessionId) {
-        return sessions.containsKey(sessionId);
+        return sessions.containsKey(sessionId) || (coldTier != null && coldTier.contains(sessionId));
     }
-    
+
     /**
-     * 현재 활성 세션 수 조회
-     * 
+     * 현재 활성 세션 수 조회 (핫 + 콜드)
+     *
      * @return 활성 세션 개수
      */
     public int getActiveSessionCount() {
-        return sessions.size();
+        return sessions.size() + (coldTier != null ? coldTier.size() : 0);
+    }
+
+    int hotIndexedUserCount() {
+        return sessionIdsByUser.size();
+    }
+
+    int coldIndexedUserCount() {
+        return coldTier != null ? coldTier.userCount() : 0;
+    }
+
+    /**
+     * 티어별 세션 수와 콜드 조회 지연 통계
+     */
+    public SessionTierStats getTierStats() {
+        long promoted = promotedCount.sum();
+        return new SessionTierStats(
+                sessions.size(),
+                coldTier != null ? coldTier.size() : 0,
+                coldTier != null ? coldTier.segmentCount() : 0,
+                coldTier != null ? coldTier.diskBytes() : 0L,
+                demotedCount.sum(),
+                promoted,
+                promoted > 0 ? coldHitTotalNanos.sum() / promoted / 1_000 : 0L,
+                coldHitMaxNanos.get() / 1_000
+        );
+    }
+
+    private boolean isInvalidatedSince(Long userId, long version) {
+        if (version < prunedSequence) {
+            return true; // 기록이 정리되어 확인할 수 없음 → 다시 읽도록 함
+        }
+        Long invalidatedAt = invalidatedAtByUser.get(userId);
+        return invalidatedAt != null && invalidatedAt > version;
+    }
+
+    /**
+     * 무효화 기록이 너무 많으면 정리
+     *
+     * 기록은 진행 중인 로그인(수 ms)만 확인하면 되므로, 현재 순번 이하를 모두 지우고
+     * 그보다 오래된 version으로 들어오는 로그인은 무효화된 것으로 처리합니다.
+     */
+    private void pruneInvalidationRecords() {
+        if (invalidatedAtByUser.size() <= MAX_INVALIDATION_RECORDS) {
+            return;
+        }
+        long threshold = invalidationSequence.get();
+        prunedSequence = threshold; // 먼저 기록한 뒤 삭제
+        invalidatedAtByUser.values().removeIf(sequence -> sequence <= threshold);
+    }
+
+    /**
+     * 콜드 세션을 핫 티어로 올림
+     *
+     * 1. 예약 항목을 putIfAbsent (이미 있으면 다른 요청의 승격을 기다림)
+     * 2. 맵 락 밖에서 콜드 티어에서 꺼냄
+     * 3. 예약 항목을 실제 세션으로 교체 (그 사이 삭제되었으면 버림)
+     * 4. 꺼내는 사이 사용자 단위 무효화가 있었으면 다시 삭제 (createSession(info, version)과 같은 방식)
+     */
+    private SessionInfo promote(String sessionId) {
+        HotSession reservation = HotSession.reservation();
+        if (sessions.putIfAbsent(sessionId, reservation) != null) {
+            return awaitPromotion(sessionId);
+        }
+        long version = invalidationSequence.get();
+
+        int span = TraceContext.startSpan(TraceContext.SESSION, "SessionStore.promote");
+        long start = System.nanoTime();
+        SessionInfo info = null;
+        try {
+            info = coldTier.take(sessionId);
+        } finally {
+            TraceContext.endSpan(span);
+            if (info == null) {
+                sessions.remove(sessionId, reservation); // 그 사이 삭제됨 (또는 예외)
+            }
+        }
+        if (info == null) {
+            return null;
+        }
+        recordColdHit(System.nanoTime() - start); // 실제로 콜드 티어에서 꺼낸 경우만 집계
+
+        addToUserIndex(info.getUserId(), sessionId);
+        if (!sessions.replace(sessionId, reservation, new HotSession(info))) {
+            removeFromUserIndex(info.getUserId(), sessionId); // 예약 중 로그아웃/무효화로 예약 항목이 삭제됨
+            return null;
+        }
+        if (isInvalidatedSince(info.getUserId(), version)) {
+            removeSession(sessionId);
+            return null;
+        }
+        return info;
+    }
+
+    /**
+     * 다른 요청이 승격 중인 세션을 기다림 (예약 항목은 콜드 블록 1개를 읽는 동안만 유지됨)
+     */
+    private SessionInfo awaitPromotion(String sessionId) {
+        HotSession current = sessions.get(sessionId);
+        while (current != null && current.isReservation()) {
+            Thread.yield();
+            current = sessions.get(sessionId);
+        }
+        if (current == null) {
+            return null;
+        }
+        current.touch();
+        return current.info;
+    }
+
+    private void recordColdHit(long elapsedNanos) {
+        promotedCount.increment();
+        coldHitTotalNanos.add(elapsedNanos);
+        coldHitMaxNanos.accumulate(elapsedNanos);
+        if (elapsedNanos > coldHitWarnNanos) {
+            log.warn("[SessionStore] 콜드 세션 조회 지연 {}us", elapsedNanos / 1_000);
+        }
+    }
+
+    /**
+     * 핫/콜드 티어에서 세션 삭제
+     *
+     * 강등 도중이면 핫/콜드 양쪽에 있을 수 있으므로 콜드 티어도 항상 정리 (맵 락 밖에서)
+     *
+     * @return 삭제된 세션 정보 (없으면 null)
+     */
+    private SessionInfo removeFromTiers(String sessionId) {
+        HotSession hot = sessions.remove(sessionId);
+        SessionInfo cold = (coldTier != null) ? coldTier.take(sessionId) : null;
+        return (hot != null && !hot.isReservation()) ? hot.info : cold;
+    }
+
+    private void addToUserIndex(Long userId, String sessionId) {
+        sessionIdsByUser.compute(userId, (id, sessionIds) -> {
+            Set<String> result = (sessionIds != null) ? sessionIds : ConcurrentHashMap.newKeySet();
+            result.add(sessionId);
+            return result;
+        }); // compute: 같은 사용자에 대한 추가/삭제가 동시에 일어나도 원자적으로 처리
+    }
+
+    private void removeFromUserIndex(Long userId, String sessionId) {
+        sessionIdsByUser.computeIfPresent(userId, (id, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds; // null 반환 시 항목 삭제
+        });
+    }
+
+    /**
+     * 유휴 세션을 콜드 티어로 내려보냄 (session-demotion 스레드에서 주기적으로 실행, 테스트에서는 직접 호출)
+     *
+     * 1. 유휴 세션을 블록 크기만큼 모아서 콜드 티어에 기록
+     * 2. 기록한 세션을 핫 티어에서 제거 (그 사이 로그아웃됐으면 콜드 티어에서도 제거)
+     */
+    void demoteIdleSessions() {
+        try {
+            long cutoff = System.currentTimeMillis() - idleThresholdMillis;
+            Map<String, HotSession> batch = new LinkedHashMap<>();
+
+            for (Map.Entry<String, HotSession> entry : sessions.entrySet()) {
+                HotSession hot = entry.getValue();
+                if (!hot.isReservation() && hot.lastAccessMillis < cutoff) {
+                    batch.put(entry.getKey(), entry.getValue());
+                    if (batch.size() == ColdSessionTier.MAX_RECORDS_PER_BLOCK) {
+                        demoteBatch(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                demoteBatch(batch);
+            }
+
+            coldTier.compactOne();
+        } catch (RuntimeException e) {
+            log.warn("[SessionStore] 세션 강등 실패", e); // 예외로 스케줄이 멈추지 않도록
+        }
+    }
+
+    private void demoteBatch(Map<String, HotSession> batch) {
+        Map<String, SessionInfo> infos = new LinkedHashMap<>();
+        batch.forEach((sessionId, hot) -> infos.put(sessionId, hot.info));
+        // 묶음을 만든 뒤 로그아웃/무효화된 세션은 기록하지 않음 (콜드 티어에서 다시 승격되지 않도록)
+        coldTier.demote(infos, sessionId -> sessions.get(sessionId) == batch.get(sessionId));
+
+        batch.forEach((sessionId, demoted) -> {
+            if (removeDemotedFromHot(demoted.info.getUserId(), sessionId, demoted)) {
+                demotedCount.increment(); // 콜드 티어로 이동 완료
+            } else {
+                removeSession(sessionId); // 그 사이 삭제됨 → 콜드 티어에 남은 사본(으로 승격된 세션 포함) 제거
+            }
+        });
+    }
+
+    /**
+     * 콜드 티어에 기록한 세션을 핫 티어와 핫 인덱스에서 함께 제거
+     *
+     * 사용자 인덱스 항목의 락(compute) 안에서 두 곳을 같이 지웁니다. (락 순서: sessionIdsByUser → sessions)
+     * - 무효화가 먼저 인덱스를 가져갔으면 핫 세션은 무효화 쪽이 지움
+     * - 여기서 먼저 지웠으면 세션은 이미 콜드 인덱스에 있으므로 무효화가 콜드 티어에서 지움
+     * - 제거 뒤에 승격된 세션의 인덱스 항목은 그 뒤에 추가되므로 지우지 않음
+     *
+     * @return 핫 티어에서 제거했으면 true (false면 그 사이 로그아웃/무효화/승격됨)
+     */
+    private boolean removeDemotedFromHot(Long userId, String sessionId, HotSession demoted) {
+        boolean[] removed = new boolean[1];
+        Set<String> remaining = sessionIdsByUser.computeIfPresent(userId, (id, sessionIds) -> {
+            removed[0] = sessions.remove(sessionId, demoted);
+            if (removed[0]) {
+                sessionIds.remove(sessionId);
+            }
+            return sessionIds.isEmpty() ? null : sessionIds; // null 반환 시 항목 삭제
+        });
+        if (remaining == null && !removed[0]) {
+            removed[0] = sessions.remove(sessionId, demoted); // 인덱스 항목이 없음 (무효화가 가져감)
+        }
+        return removed[0];
+    }
+
+    /**
+     * 핫 티어 항목 (세션 정보 + 마지막 사용 시각)
+     */
+    private static class HotSession {
+
+        private static final long TOUCH_RESOLUTION_MILLIS = 1_000;
+
+        private final SessionInfo info; // 승격 예약 항목이면 null
+        private volatile long lastAccessMillis;
+
+        HotSession(SessionInfo info) {
+            this.info = info;
+            this.lastAccessMillis = System.currentTimeMillis();
+        }
+
+        static HotSession reservation() {
+            return new HotSession(null);
+        }
+
+        boolean isReservation() {
+            return info == null;
+        }
+
+        void touch() {
+            long now = System.currentTimeMillis();
+            if (now - lastAccessMillis > TOUCH_RESOLUTION_MILLIS) {
+                lastAccessMillis = now; // 1초 단위로만 기록 → 요청마다 같은 캐시 라인에 쓰지 않음
+            }
+        }
     }
 }
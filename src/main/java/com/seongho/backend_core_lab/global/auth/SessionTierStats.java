@@ -0,0 +1,31 @@
+package com.seongho.backend_core_lab.global.auth;
+
+import lombok.Getter;
+
+/**
+ * 세션 저장소 티어별 통계 (GET /admin/sessions/stats)
+ */
+@Getter
+public class SessionTierStats {
+
+    private final int hotSessions; // 힙에 있는 세션 수
+    private final int coldSessions; // 디스크로 내려간 세션 수
+    private final int coldSegments; // 콜드 티어 세그먼트 파일 수
+    private final long coldDiskBytes; // 콜드 티어가 사용 중인 디스크 크기
+    private final long demoted; // 누적 강등 횟수
+    private final long promoted; // 누적 승격(콜드 조회) 횟수
+    private final long coldHitAvgMicros; // 콜드 조회 평균 지연
+    private final long coldHitMaxMicros; // 콜드 조회 최대 지연
+
+    public SessionTierStats(int hotSessions, int coldSessions, int coldSegments, long coldDiskBytes,
+                            long demoted, long promoted, long coldHitAvgMicros, long coldHitMaxMicros) {
+        this.hotSessions = hotSessions;
+        this.coldSessions = coldSessions;
+        this.coldSegments = coldSegments;
+        this.coldDiskBytes = coldDiskBytes;
+        this.demoted = demoted;
+        this.promoted = promoted;
+        this.coldHitAvgMicros = coldHitAvgMicros;
+        this.coldHitMaxMicros = coldHitMaxMicros;
+    }
+}
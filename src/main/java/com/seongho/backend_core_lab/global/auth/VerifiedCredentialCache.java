@@ -0,0 +1,201 @@
+package com.seongho.backend_core_lab.global.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 검증된 로그인 정보 캐시 (같은 아이디/비밀번호 반복 로그인 시 bcrypt 생략)
+ *
+ * 스크립트, 토큰을 잃은 모바일 앱처럼 같은 계정으로 1분에 여러 번 로그인하는 클라이언트를 위한 옵션입니다.
+ * 기본값은 비활성화(credential-cache.enabled=false)입니다.
+ *
+ * <저장 내용>
+ * - 사용자 ID → HMAC-SHA256(프로세스 시작 시 만든 비밀 키, 사용자 ID + 저장된 비밀번호 해시 + 입력 비밀번호)
+ * - 평문 비밀번호는 저장하지 않음, 비밀 키는 프로세스 메모리에만 존재 (재시작하면 전부 무효)
+ * - 검증에 성공한 경우만 저장 (실패한 시도는 저장하지 않음 → 무차별 대입은 계속 bcrypt 비용을 치름)
+ *
+ * <무효화>
+ * - TTL(credential-cache.ttl-seconds)이 지나면 무효
+ * - HMAC에 DB에 저장된 비밀번호 해시가 포함되므로, 비밀번호가 바뀌면 이전 항목은 절대 일치하지 않음
+ * - 추가로 User 변경(updatePassword 등) 시 VerifiedCredentialCacheListener가,
+ *   관리자 일괄 작업 시 AdminBulkService가 해당 사용자 항목을 바로 삭제
+ *
+ * <크기 제한>
+ * - 최대 credential-cache.max-entries개, 가득 차면 만료된 항목을 정리하고 그래도 가득 차면 새 항목을 저장하지 않음
+ *   (캐시가 가득 차도 bcrypt로 검증할 뿐 로그인은 정상 동작)
+ */
+@Slf4j
+@Component
+public class VerifiedCredentialCache {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier clockNanos;
+
+    private final SecretKeySpec secretKey;
+    private final ThreadLocal<Mac> macs; // Mac은 스레드 안전하지 않으므로 스레드마다 1개
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @Autowired
+    public VerifiedCredentialCache(@Value("${credential-cache.enabled:false}") boolean enabled,
+                                   @Value("${credential-cache.ttl-seconds:60}") long ttlSeconds,
+                                   @Value("${credential-cache.max-entries:10000}") int maxEntries) {
+        this(enabled, ttlSeconds, maxEntries, System::nanoTime);
+    }
+
+    // 테스트에서 시계를 직접 제어할 때 사용
+    VerifiedCredentialCache(boolean enabled, long ttlSeconds, int maxEntries, LongSupplier clockNanos) {
+        if (ttlSeconds <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("credential-cache.ttl-seconds와 max-entries는 0보다 커야 합니다");
+        }
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+        this.clockNanos = clockNanos;
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.secretKey = new SecretKeySpec(secret, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+
+        if (enabled) {
+            log.info("[CredentialCache] 활성화 - TTL: {}초, 최대: {}개", ttlSeconds, maxEntries);
+        }
+    }
+
+    /**
+     * 최근에 같은 비밀번호로 검증에 성공했는지 확인
+     *
+     * @param userId 사용자 ID
+     * @param encodedPassword DB에 저장된 비밀번호 해시
+     * @param rawPassword 입력한 비밀번호
+     * @return 캐시에 유효한 항목이 있고 일치하면 true (false면 bcrypt로 검증해야 함)
+     */
+    public boolean matches(Long userId, String encodedPassword, String rawPassword) {
+        if (!enabled) {
+            return false;
+        }
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            missCount.increment();
+            return false;
+        }
+        if (entry.expiresAt - clockNanos.getAsLong() < 0) {
+            entries.remove(userId, entry);
+            missCount.increment();
+            return false;
+        }
+        boolean matched = MessageDigest.isEqual(entry.digest, digest(userId, encodedPassword, rawPassword)); // 상수 시간 비교
+        if (matched) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return matched;
+    }
+
+    /**
+     * bcrypt 검증에 성공한 로그인 정보 저장
+     */
+    public void put(Long userId, String encodedPassword, String rawPassword) {
+        if (!enabled) {
+            return;
+        }
+        if (entries.size() >= maxEntries && !entries.containsKey(userId)) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                return; // 가득 참 - 저장하지 않음
+            }
+        }
+        entries.put(userId, new Entry(digest(userId, encodedPassword, rawPassword), clockNanos.getAsLong() + ttlNanos));
+    }
+
+    /**
+     * 사용자 항목 삭제 (비밀번호 변경 등)
+     */
+    public void invalidate(Long userId) {
+        if (enabled && userId != null) {
+            entries.remove(userId);
+        }
+    }
+
+    /**
+     * 여러 사용자 항목 삭제 (관리자 일괄 작업)
+     */
+    public void invalidateAll(Collection<Long> userIds) {
+        if (enabled) {
+            userIds.forEach(entries::remove);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired() {
+        long now = clockNanos.getAsLong();
+        entries.values().removeIf(entry -> entry.expiresAt - now < 0);
+    }
+
+    private byte[] digest(Long userId, String encodedPassword, String rawPassword) {
+        Mac mac = macs.get();
+        long id = userId;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            mac.update((byte) (id >>> shift));
+        }
+        mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) 0); // 해시와 비밀번호 경계 구분
+        mac.update(rawPassword.getBytes(StandardCharsets.UTF_8));
+        return mac.doFinal(); // doFinal 후 Mac은 초기 상태로 돌아가므로 재사용 가능
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + "를 사용할 수 없습니다", e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final byte[] digest;
+        private final long expiresAt; // clockNanos(System.nanoTime) 기준
+
+        Entry(byte[] digest, long expiresAt) {
+            this.digest = digest;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.seongho.backend_core_lab.global.auth;
+
+import com.seongho.backend_core_lab.domain.user.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * User 변경 시 검증된 로그인 정보 캐시 항목을 삭제하는 JPA 엔티티 리스너
+ *
+ * User의 @EntityListeners로 등록됩니다. (updatePassword 후 flush 시점에 호출)
+ * 어떤 필드가 바뀌었는지 구분하지 않고 삭제합니다 - 다음 로그인에서 bcrypt 1번만 더 수행하면 됨.
+ *
+ * 커밋 전에 삭제하므로, 커밋 전 다른 로그인이 이전 해시로 다시 저장할 수는 있지만
+ * 캐시 HMAC에 저장된 비밀번호 해시가 포함되어 있어 커밋 후에는 일치하지 않습니다.
+ */
+public class VerifiedCredentialCacheListener {
+
+    private final VerifiedCredentialCache verifiedCredentialCache;
+
+    public VerifiedCredentialCacheListener(VerifiedCredentialCache verifiedCredentialCache) {
+        this.verifiedCredentialCache = verifiedCredentialCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        verifiedCredentialCache.invalidate(user.getId());
+    }
+}
@@ -0,0 +1,68 @@
+package com.seongho.backend_core_lab.global.config;
+
+import com.seongho.backend_core_lab.global.datasource.DataSourceRoutingProperties;
+import com.seongho.backend_core_lab.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 레플리카 라우팅 DataSource 설정
+ *
+ * datasource.routing.enabled=true 일 때만 동작합니다.
+ * DataSource 빈을 직접 등록하므로 스프링 부트의 기본 DataSource 자동 설정은 적용되지 않습니다.
+ *
+ * 구조: LazyConnectionDataSourceProxy → ReplicaRoutingDataSource → primary / replica-N (Hikari)
+ * - LazyConnectionDataSourceProxy: 첫 SQL 실행 시점까지 실제 커넥션 획득을 미룸
+ *   → 그 시점에는 트랜잭션의 readOnly 여부가 정해져 있어서 올바른 대상으로 라우팅됨
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    private static final long REPLICA_CONNECTION_TIMEOUT_MILLIS = 2_000; // 장애 레플리카 헬스 체크가 오래 걸리지 않도록
+
+    @Bean
+    public DataSource dataSource(DataSourceRoutingProperties properties,
+                                 @Value("${spring.datasource.url}") String url,
+                                 @Value("${spring.datasource.username:}") String username,
+                                 @Value("${spring.datasource.password:}") String password) {
+        HikariDataSource primary = hikari("primary", url, username, password);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<DataSourceRoutingProperties.Replica> replicaProperties = properties.getReplicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = replicaProperties.get(i);
+            HikariDataSource replicaDataSource = hikari("replica-" + i, replica.getUrl(),
+                    replica.getUsername(), replica.getPassword());
+            replicaDataSource.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT_MILLIS);
+            replicaDataSource.setReadOnly(true);
+            replicas.put("replica-" + i, replicaDataSource);
+        }
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                primary, replicas, properties.getReadYourWritesSeconds() * 1_000);
+        routingDataSource.startHealthChecks(properties.getHealthCheckIntervalSeconds());
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource hikari(String poolName, String url, String username, String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        return dataSource;
+    }
+}
@@ -0,0 +1,79 @@
+package com.seongho.backend_core_lab.global.config;
+
+import com.seongho.backend_core_lab.global.datasource.DataSourceShardingProperties;
+import com.seongho.backend_core_lab.global.datasource.ShardRoutingDataSource;
+import com.seongho.backend_core_lab.global.datasource.ShardSchemaInitializer;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * users 테이블 샤딩 DataSource 설정
+ *
+ * DataSource 빈은 datasource.sharding.enabled=true 일 때만 등록됩니다.
+ * (설정 클래스 자체는 항상 로딩 → UserShardRouter가 비활성화 여부를 확인할 수 있도록)
+ *
+ * 구조: LazyConnectionDataSourceProxy → ShardRoutingDataSource → directory / shard-N (Hikari)
+ * - directory: spring.datasource.* (이메일/소셜 계정 고유성 디렉터리)
+ * - shard-N: datasource.sharding.shards[N].* (users 테이블)
+ *
+ * 레플리카 라우팅(datasource.routing.enabled)과는 함께 사용할 수 없습니다.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceShardingProperties.class)
+public class DataSourceShardingConfig {
+
+    private static final int MAX_SHARDS = 32; // UserIdGenerator의 샤드 비트 수(5비트)
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.sharding.enabled", havingValue = "true")
+    public DataSource dataSource(DataSourceShardingProperties properties,
+                                 @Value("${datasource.routing.enabled:false}") boolean replicaRoutingEnabled,
+                                 @Value("${spring.datasource.url}") String url,
+                                 @Value("${spring.datasource.username:}") String username,
+                                 @Value("${spring.datasource.password:}") String password) {
+        if (replicaRoutingEnabled) {
+            throw new IllegalStateException("레플리카 라우팅과 샤딩은 함께 사용할 수 없습니다");
+        }
+        List<DataSourceShardingProperties.Shard> shardProperties = properties.getShards();
+        if (shardProperties.isEmpty() || shardProperties.size() > MAX_SHARDS) {
+            throw new IllegalStateException("datasource.sharding.shards는 1개 이상 " + MAX_SHARDS + "개 이하여야 합니다");
+        }
+
+        List<DataSource> shards = new ArrayList<>(shardProperties.size());
+        for (int i = 0; i < shardProperties.size(); i++) {
+            DataSourceShardingProperties.Shard shard = shardProperties.get(i);
+            shards.add(hikari("shard-" + i, shard.getUrl(), shard.getUsername(), shard.getPassword()));
+        }
+
+        ShardRoutingDataSource routingDataSource =
+                new ShardRoutingDataSource(hikari("directory", url, username, password), shards);
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.sharding.enabled", havingValue = "true")
+    public ShardSchemaInitializer shardSchemaInitializer(EntityManagerFactory entityManagerFactory,
+                                                         DataSourceShardingProperties properties) {
+        return new ShardSchemaInitializer(entityManagerFactory, properties.getShards().size(),
+                properties.isCreateSchema());
+    }
+
+    private HikariDataSource hikari(String poolName, String url, String username, String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        return dataSource;
+    }
+}
@@ -1,6 +1,8 @@
 package com.seongho.backend_core_lab.global.config;
 
 import com.seongho.backend_core_lab.global.interceptor.AdminAuthorizationInterceptor;
+import com.seongho.backend_core_lab.global.interceptor.ReadYourWritesInterceptor;
+import com.seongho.backend_core_lab.global.interceptor.TraceInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -12,11 +14,17 @@ public class WebConfig implements WebMvcConfigurer {
 //WebMVvcConfigurer 인터페이스 구현 -> 스프링 MVC 설정 커스터마이징 가능
 //Interceptor, CORS, 메시지 컨버터등 설정 가능
     private final AdminAuthorizationInterceptor adminAuthorizationInterceptor; //관리자 권한 인터셉터 등록
+    private final TraceInterceptor traceInterceptor; //Controller 구간 트레이스 인터셉터
+    private final ReadYourWritesInterceptor readYourWritesInterceptor; //레플리카 라우팅용 클라이언트 키 설정
     
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readYourWritesInterceptor) //쓰기 직후 읽기를 primary로 고정하기 위한 클라이언트 키
+                .addPathPatterns("/**");
         registry.addInterceptor(adminAuthorizationInterceptor) //관리자 권한 인터셉터 등록
                 .addPathPatterns("/admin/**"); //관리자 권한 인터셉터 적용 경로 설정
+        registry.addInterceptor(traceInterceptor) //권한 체크 뒤에 등록 -> Controller 실행 구간만 측정
+                .addPathPatterns("/**");
     } //.excludePathPatterns("/auth/**"); //인증 불필요 경로 설정
     //인증 불필요 경로는 filter에서 처리됨
     //이건 interceptor에서 처리됨
@@ -0,0 +1,38 @@
+package com.seongho.backend_core_lab.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 레플리카 라우팅 설정 (datasource.routing.*)
+ *
+ * primary는 기존 spring.datasource.* 설정을 그대로 사용합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled; // false면 기존처럼 단일 DataSource 사용
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    private long healthCheckIntervalSeconds = 5;
+
+    private long readYourWritesSeconds = 5; // 쓰기 후 같은 클라이언트의 읽기를 primary로 고정할 시간 (0 = 사용 안 함)
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
@@ -0,0 +1,38 @@
+package com.seongho.backend_core_lab.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * users 테이블 샤딩 설정 (datasource.sharding.*)
+ *
+ * 디렉터리 DB는 기존 spring.datasource.* 설정을 그대로 사용합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.sharding")
+public class DataSourceShardingProperties {
+
+    private boolean enabled; // false면 기존처럼 단일 DataSource 사용
+
+    private List<Shard> shards = new ArrayList<>(); // 순서가 곧 샤드 번호 (운영 중 순서/개수 변경 불가)
+
+    private int workerId; // 사용자 ID 생성기 번호 (0 ~ 31, 애플리케이션 인스턴스마다 달라야 함)
+
+    private boolean createSchema = true; // 시작 시 샤드마다 테이블 삭제 후 재생성 (ddl-auto=create와 동일)
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
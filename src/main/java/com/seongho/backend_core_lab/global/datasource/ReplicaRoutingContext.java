@@ -0,0 +1,28 @@
+package com.seongho.backend_core_lab.global.datasource;
+
+/**
+ * 현재 요청의 클라이언트 식별 키 (read-your-writes 고정용)
+ *
+ * ReadYourWritesInterceptor가 요청 시작 시 설정하고 요청 종료 시 지웁니다.
+ * - 세션이 있으면 "session:{세션 ID}"
+ * - 없으면(회원가입 → 로그인 흐름 등) "ip:{클라이언트 IP}"
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<String> CLIENT_KEY = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void setClientKey(String clientKey) {
+        CLIENT_KEY.set(clientKey);
+    }
+
+    public static String getClientKey() {
+        return CLIENT_KEY.get();
+    }
+
+    public static void clear() {
+        CLIENT_KEY.remove();
+    }
+}
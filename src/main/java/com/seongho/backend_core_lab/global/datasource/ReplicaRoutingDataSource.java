@@ -0,0 +1,185 @@
+package com.seongho.backend_core_lab.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로 보내는 라우팅 DataSource
+ *
+ * <라우팅 규칙>
+ * - @Transactional(readOnly = true) 트랜잭션 → 정상 상태인 레플리카 중 하나 (라운드 로빈)
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖) → primary
+ * - 정상 레플리카가 없으면 → primary
+ * - read-your-writes: 쓰기 트랜잭션이 커밋되면 같은 클라이언트의 읽기는 일정 시간 primary로 고정
+ *   (레플리카 복제 지연 때문에 방금 가입한 사용자가 로그인에 실패하는 상황 방지)
+ *
+ * <주의>
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 첫 SQL 실행 시점에 커넥션을 고르도록 해야 합니다.
+ * (DataSourceRoutingConfig 참고)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas; // 레플리카 키 → DataSource (설정 순서 유지)
+    private final long readYourWritesMillis; // 0이면 고정하지 않음
+
+    private volatile List<String> healthyReplicas; // 헬스 체크로 갱신
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>(); // 클라이언트 키 → primary 고정 만료 시각
+
+    private ScheduledExecutorService healthCheckScheduler;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long readYourWritesMillis) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.readYourWritesMillis = readYourWritesMillis;
+        this.healthyReplicas = List.copyOf(this.replicas.keySet());
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinAfterCommit();
+            return PRIMARY;
+        }
+        if (isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return PRIMARY; // 정상 레플리카가 없으면 primary에서 읽기
+        }
+        int next = Math.floorMod(roundRobin.getAndIncrement(), candidates.size());
+        return candidates.get(next);
+    }
+
+    /**
+     * 레플리카 헬스 체크 주기 실행 시작
+     *
+     * @param intervalSeconds 체크 주기(초)
+     */
+    public void startHealthChecks(long intervalSeconds) {
+        checkReplicaHealth(); // 시작 시 1번은 바로 확인
+        healthCheckScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthCheckScheduler.scheduleWithFixedDelay(() -> {
+            checkReplicaHealth();
+            evictExpiredPins();
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 모든 레플리카에 커넥션을 요청해서 정상 목록 갱신
+     */
+    public void checkReplicaHealth() {
+        List<String> healthy = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            if (isHealthy(replica.getValue())) {
+                healthy.add(replica.getKey());
+            }
+        }
+
+        List<String> previous = healthyReplicas;
+        if (!previous.equals(healthy)) {
+            log.warn("[Replica] 정상 레플리카 변경: {} -> {}", previous, healthy);
+        }
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (healthCheckScheduler != null) {
+            healthCheckScheduler.shutdownNow();
+        }
+        for (DataSource replica : replicas.values()) {
+            closeIfPossible(replica);
+        }
+        closeIfPossible(primary);
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 현재 클라이언트를 primary에 고정
+     */
+    private void pinAfterCommit() {
+        String clientKey = ReplicaRoutingContext.getClientKey();
+        if (readYourWritesMillis <= 0 || clientKey == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pinnedUntil.put(clientKey, System.currentTimeMillis() + readYourWritesMillis);
+            }
+        });
+    }
+
+    private boolean isPinnedToPrimary() {
+        String clientKey = ReplicaRoutingContext.getClientKey();
+        if (clientKey == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(clientKey);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            pinnedUntil.remove(clientKey, until);
+            return false;
+        }
+        return true;
+    }
+
+    private void evictExpiredPins() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until < now);
+    }
+
+    private boolean isHealthy(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(1);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void closeIfPossible(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close(); // HikariDataSource 커넥션 풀 종료
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.seongho.backend_core_lab.global.datasource;
+
+/**
+ * 현재 스레드가 사용할 샤드 번호 (샤딩 라우팅용)
+ *
+ * UserShardRouter가 샤드별 트랜잭션을 시작하기 전에 설정하고 끝나면 되돌립니다.
+ * 설정되지 않았으면(null) 디렉터리 DB(spring.datasource.*)로 연결됩니다.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer get() {
+        return SHARD.get();
+    }
+
+    /**
+     * @param shard 샤드 번호, null이면 디렉터리 DB
+     */
+    public static void set(Integer shard) {
+        if (shard == null) {
+            SHARD.remove();
+        } else {
+            SHARD.set(shard);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.seongho.backend_core_lab.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * users 테이블 샤드로 커넥션을 보내는 라우팅 DataSource
+ *
+ * <라우팅 규칙>
+ * - ShardContext에 샤드 번호가 있으면 → 해당 샤드 DB
+ * - 없으면 → 디렉터리 DB (이메일/소셜 계정 고유성 디렉터리, Hibernate 시작 시 스키마 생성 대상)
+ *
+ * <주의>
+ * 레플리카 라우팅과 마찬가지로 LazyConnectionDataSourceProxy로 감싸서
+ * 첫 SQL 실행 시점(샤드 번호가 정해진 뒤)에 커넥션을 고르도록 해야 합니다.
+ * 트랜잭션 1개는 샤드 1개만 사용합니다. (DataSourceShardingConfig 참고)
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final DataSource directory;
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(DataSource directory, List<DataSource> shards) {
+        this.directory = directory;
+        this.shards = List.copyOf(shards);
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < this.shards.size(); i++) {
+            targets.put(i, this.shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(directory);
+        setLenientFallback(false); // 없는 샤드 번호는 디렉터리로 보내지 않고 예외
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.get(); // null이면 기본 대상(디렉터리)
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource shard : shards) {
+            closeIfPossible(shard);
+        }
+        closeIfPossible(directory);
+    }
+
+    private void closeIfPossible(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close(); // HikariDataSource 커넥션 풀 종료
+        }
+    }
+}
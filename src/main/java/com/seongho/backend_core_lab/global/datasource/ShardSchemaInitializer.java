@@ -0,0 +1,47 @@
+package com.seongho.backend_core_lab.global.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.relational.SchemaManager;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * 샤드마다 엔티티 테이블 생성
+ *
+ * Hibernate의 ddl-auto는 시작 시 기본 대상(디렉터리 DB)에만 적용되므로,
+ * 같은 매핑으로 각 샤드에도 스키마를 만듭니다. (삭제 후 생성 = ddl-auto=create)
+ * 모든 싱글톤 빈 생성 직후, 애플리케이션이 요청을 받기 전에 실행됩니다.
+ */
+@Slf4j
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final int shardCount;
+    private final boolean createSchema; // false면 샤드 스키마를 직접 관리 (아무것도 하지 않음)
+
+    public ShardSchemaInitializer(EntityManagerFactory entityManagerFactory, int shardCount, boolean createSchema) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.shardCount = shardCount;
+        this.createSchema = createSchema;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!createSchema) {
+            return;
+        }
+        SchemaManager schemaManager = entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager();
+        Integer previous = ShardContext.get();
+        try {
+            for (int shard = 0; shard < shardCount; shard++) {
+                ShardContext.set(shard); // 스키마 도구가 얻는 커넥션도 이 샤드로 라우팅됨
+                schemaManager.dropMappedObjects(false);
+                schemaManager.exportMappedObjects(false);
+            }
+        } finally {
+            ShardContext.set(previous);
+        }
+        log.info("[Shard] 샤드 {}개 스키마 생성 완료", shardCount);
+    }
+}
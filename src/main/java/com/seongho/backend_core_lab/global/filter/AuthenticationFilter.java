@@ -1,12 +1,18 @@
 package com.seongho.backend_core_lab.global.filter;
 
+import com.seongho.backend_core_lab.global.accesslog.AccessLogger;
 import com.seongho.backend_core_lab.global.auth.SessionInfo;
 import com.seongho.backend_core_lab.global.auth.SessionStore;
+import com.seongho.backend_core_lab.global.profiling.ContinuousProfiler;
+import com.seongho.backend_core_lab.global.profiling.RequestEvent;
+import com.seongho.backend_core_lab.global.trace.TraceContext;
+import com.seongho.backend_core_lab.global.trace.TraceRecorder;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest; // HTTP 요청을 처리하는 클래스
 import jakarta.servlet.http.HttpServletResponse; // HTTP 요청과 응답을 처리하는 클래스
 import lombok.RequiredArgsConstructor; // Lombok의 @RequiredArgsConstructor 어노테이션 사용 -> 생성자 자동 생성
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Component; // Spring의 @Component 어노테이션 사용 -> 스프링 컨테이너에 빈으로 등록
 
 import java.io.IOException;
@@ -25,10 +31,14 @@ import java.util.List;
 public class AuthenticationFilter implements Filter {
     
     private final SessionStore sessionStore;
+    private final TraceRecorder traceRecorder;
+    private final AccessLogger accessLogger;
+    private final ContinuousProfiler continuousProfiler;
     
     private static final List<String> PUBLIC_PATHS = Arrays.asList(
             "/auth/signup",
-            "/auth/login"
+            "/auth/login",
+            "/auth/password-reset"
     );
     
     @Override
@@ -39,42 +49,95 @@ public class AuthenticationFilter implements Filter {
         HttpServletResponse httpResponse = (HttpServletResponse) response;
         
         String requestURI = httpRequest.getRequestURI();
+        long startNanos = System.nanoTime();
+        RequestEvent requestEvent = continuousProfiler.begin(); // JFR 요청 이벤트 (소요 시간 + 할당 바이트)
         
-        log.info("[Filter] 요청 URI: {}", requestURI);
+        // 상관관계 ID 부여 + 트레이스 시작 (클라이언트가 보낸 X-Request-Id가 있으면 재사용)
+        String traceId = traceRecorder.begin(httpRequest.getHeader(TraceRecorder.TRACE_ID_HEADER));
+        httpResponse.setHeader(TraceRecorder.TRACE_ID_HEADER, traceId);
+        MDC.put("traceId", traceId); // 이후 로그에 traceId 포함
         
+        boolean failed = false;
+        try {
+            int filterSpan = TraceContext.startSpan(TraceContext.FILTER, "AuthenticationFilter");
+            boolean authenticated;
+            try {
+                authenticated = authenticate(httpRequest, httpResponse, requestURI);
+            } finally {
+                TraceContext.endSpan(filterSpan);
+            }
+            
+            if (authenticated) {
+                chain.doFilter(request, response); //다음 필터로 이동
+            }
+        } catch (IOException | ServletException | RuntimeException e) {
+            TraceContext.markError(); // 오류 요청은 샘플링과 관계없이 항상 보관
+            failed = true;
+            throw e;
+        } finally {
+            int status = resolveStatus(httpResponse, failed);
+            traceRecorder.end(httpRequest.getMethod(), requestURI, status);
+            SessionInfo sessionInfo = (SessionInfo) httpRequest.getAttribute("sessionInfo");
+            // 요청당 접근 로그 1건 (비동기 + 성공 응답은 샘플링)
+            accessLogger.log(traceId, httpRequest.getMethod(), requestURI, status, System.nanoTime() - startNanos,
+                    sessionInfo);
+            continuousProfiler.end(requestEvent, httpRequest, status, sessionInfo);
+            MDC.remove("traceId");
+        }
+    }
+    
+    /**
+     * 기록할 응답 상태 코드
+     * 
+     * 예외가 필터 밖으로 전파되면 응답 상태는 아직 200이지만, 이후 컨테이너가 500으로 응답합니다.
+     * 접근 로그(오류 100% 기록), 트레이스, JFR 요청 이벤트가 성공 요청으로 기록하지 않도록 500으로 바꿉니다.
+     */
+    private static int resolveStatus(HttpServletResponse httpResponse, boolean failed) {
+        int status = httpResponse.getStatus();
+        if (failed && status < HttpServletResponse.SC_BAD_REQUEST) {
+            return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        }
+        return status;
+    }
+    
+    /**
+     * 세션 인증 처리
+     * 
+     * @return 다음 필터로 진행하면 true, 401 응답을 이미 작성했으면 false
+     */
+    private boolean authenticate(HttpServletRequest httpRequest, HttpServletResponse httpResponse,
+                                 String requestURI) throws IOException {
+        
+        // 요청 단위 기록은 AccessLogger가 담당 -> 여기서는 디버깅용 debug 로그만 남김
         if (isPublicPath(requestURI)) { //회원가입/로그인 경로는 인증 불필요
-            log.info("[Filter] 인증 불필요 경로, 통과"); // 로그 출력
-            chain.doFilter(request, response); //다음 필터로 이동
-            return;
+            return true;
         }
         
         String sessionId = httpRequest.getHeader("X-Session-Id");
         //HTTP 요청 헤더에서 세션 ID 추출
         //세션 ID가 없으면 401 응답
         if (sessionId == null || sessionId.isEmpty()) {
-            log.warn("[Filter] 세션 ID 없음, 401 반환");
+            log.debug("[Filter] 세션 ID 없음, 401 반환");
             httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             httpResponse.setContentType("application/json;charset=UTF-8");
             httpResponse.getWriter().write("{\"error\": \"인증이 필요합니다\"}");
-            return;
+            return false;
         }
         
         SessionInfo sessionInfo = sessionStore.getSession(sessionId).orElse(null);
         //세션 ID로 세션 저장소에서 세션 정보 조회
 
         if (sessionInfo == null) {
-            log.warn("[Filter] 유효하지 않은 세션 ID, 401 반환"); // 로그 출력 - Lombok의 @Slf4j 어노테이션 사용
+            log.debug("[Filter] 유효하지 않은 세션 ID, 401 반환"); // 로그 출력 - Lombok의 @Slf4j 어노테이션 사용
             httpResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             httpResponse.setContentType("application/json;charset=UTF-8");
             httpResponse.getWriter().write("{\"error\": \"유효하지 않은 세션입니다\"}");
-            return;
+            return false;
         } //세션 ID가 유효하지 않으면 401 응답
         
-        log.info("[Filter] 인증 성공 - 사용자: {}, 권한: {}", sessionInfo.getUsername(), sessionInfo.getRole());
-        
         httpRequest.setAttribute("sessionInfo", sessionInfo); // 세션 정보를 요청 속성에 저장
         
-        chain.doFilter(request, response); //다음 필터로 이동
+        return true;
     }
     
     private boolean isPublicPath(String requestURI) {
@@ -0,0 +1,31 @@
+package com.seongho.backend_core_lab.global.interceptor;
+
+import com.seongho.backend_core_lab.global.datasource.ReplicaRoutingContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 요청마다 클라이언트 식별 키를 ReplicaRoutingContext에 설정하는 Interceptor
+ *
+ * ReplicaRoutingDataSource가 이 키로 "방금 쓰기를 한 클라이언트"의 읽기를 primary로 고정합니다.
+ * (레플리카 라우팅이 꺼져 있으면 키는 설정되지만 사용되지 않음)
+ */
+@Component
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String sessionId = request.getHeader("X-Session-Id");
+        ReplicaRoutingContext.setClientKey(
+                (sessionId != null && !sessionId.isEmpty()) ? "session:" + sessionId : "ip:" + request.getRemoteAddr());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ReplicaRoutingContext.clear();
+    }
+}
@@ -0,0 +1,53 @@
+package com.seongho.backend_core_lab.global.interceptor;
+
+import com.seongho.backend_core_lab.global.trace.TraceContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Controller 실행 구간을 트레이스 span으로 기록하는 Interceptor
+ *
+ * WebConfig에서 AdminAuthorizationInterceptor 뒤에 등록되므로
+ * preHandle ~ afterCompletion 사이가 곧 Controller 실행 구간입니다.
+ */
+@Component
+public class TraceInterceptor implements HandlerInterceptor {
+
+    private static final String SPAN_ATTRIBUTE = TraceInterceptor.class.getName() + ".span";
+
+    private final Map<Method, String> spanNames = new ConcurrentHashMap<>(); // "AuthController.login" 문자열 캐시
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            int span = TraceContext.startSpan(TraceContext.CONTROLLER, spanName(handlerMethod.getMethod()));
+            if (span != TraceContext.NO_SPAN) {
+                request.setAttribute(SPAN_ATTRIBUTE, span);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (ex != null) {
+            TraceContext.markError();
+        }
+        if (request.getAttribute(SPAN_ATTRIBUTE) instanceof Integer span) {
+            TraceContext.endSpan(span);
+        }
+    }
+
+    private String spanName(Method method) {
+        return spanNames.computeIfAbsent(method,
+                m -> m.getDeclaringClass().getSimpleName() + "." + m.getName());
+    }
+}
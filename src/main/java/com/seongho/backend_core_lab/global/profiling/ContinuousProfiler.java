@@ -0,0 +1,283 @@
+package com.seongho.backend_core_lab.global.profiling;
+
+import com.seongho.backend_core_lab.global.auth.SessionInfo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.EventStream;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JFR 기반 상시 프로파일링
+ *
+ * 애플리케이션 시작 시 JFR 녹화 1개(default 설정, 오버헤드 1% 내외)를 켜두고,
+ * 같은 프로세스 안에서 이벤트 스트림(EventStream.openRepository)으로 읽어 최근 N분 집계를 유지합니다.
+ * 별도 에이전트나 외부 수집기 없이 GET /admin/profiling 으로 바로 확인할 수 있습니다.
+ *
+ * <수집 이벤트>
+ * - RequestEvent: 요청 1건마다 경로, 권한, 상태 코드, 소요 시간, 요청 스레드 할당 바이트
+ * - jdk.ObjectAllocationSample: 할당 샘플 (스택별 할당량)
+ * - jdk.JavaMonitorEnter, jdk.ThreadPark: profiling.blocking-threshold-ms 이상 대기한 스택
+ *   (스레드 풀의 작업 대기처럼 정상적인 유휴 대기는 제외)
+ * - jdk.GarbageCollection: GC 횟수와 일시 정지 시간
+ * - jdk.JavaThreadStatistics: 활성/최대 스레드 수 (스레드 풀 포화 확인)
+ *
+ * <보관>
+ * - 집계: 최근 profiling.window-minutes분 (1분 단위 버킷)
+ * - 녹화 파일: JFR 저장소(디스크)에 최근 profiling.max-age-minutes분, 최대 profiling.max-size-mb
+ *   → GET /admin/profiling/dump?minutes=N 으로 .jfr 파일을 받아 JDK Mission Control에서 분석
+ */
+@Slf4j
+@Component
+public class ContinuousProfiler {
+
+    private static final String RECORDING_NAME = "backend-core-lab";
+    private static final int MAX_FRAMES = 10;
+
+    // 스택에 포함되어 있으면 작업을 기다리는 유휴 스레드로 보고 대기 집계에서 제외
+    private static final Set<String> IDLE_FRAMES = Set.of(
+            "java.util.concurrent.ThreadPoolExecutor.getTask",
+            "java.util.concurrent.ScheduledThreadPoolExecutor$DelayedWorkQueue.take",
+            "java.util.concurrent.ForkJoinPool.awaitWork",
+            "java.util.concurrent.ArrayBlockingQueue.poll",
+            "java.util.concurrent.ArrayBlockingQueue.take",
+            "java.util.concurrent.LinkedBlockingQueue.poll",
+            "java.util.concurrent.LinkedBlockingQueue.take",
+            "java.util.concurrent.SynchronousQueue.poll",
+            "java.util.concurrent.SynchronousQueue.take"
+    );
+
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Duration blockingThreshold;
+    private final RollingProfile rollingProfile;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    private Recording recording;
+    private EventStream eventStream;
+
+    public ContinuousProfiler(@Value("${profiling.enabled:false}") boolean enabled,
+                              @Value("${profiling.max-age-minutes:30}") long maxAgeMinutes,
+                              @Value("${profiling.max-size-mb:256}") long maxSizeMb,
+                              @Value("${profiling.window-minutes:5}") int windowMinutes,
+                              @Value("${profiling.blocking-threshold-ms:20}") long blockingThresholdMillis) {
+        if (maxAgeMinutes <= 0 || maxSizeMb <= 0 || windowMinutes <= 0) {
+            throw new IllegalArgumentException("profiling.max-age-minutes, max-size-mb, window-minutes는 0보다 커야 합니다");
+        }
+        if (blockingThresholdMillis < 0) {
+            throw new IllegalArgumentException("profiling.blocking-threshold-ms는 0 이상이어야 합니다");
+        }
+        this.enabled = enabled;
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.blockingThreshold = Duration.ofMillis(blockingThresholdMillis);
+        this.rollingProfile = new RollingProfile(windowMinutes);
+        this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    @PostConstruct
+    void start() throws IOException, ParseException {
+        if (!enabled) {
+            return;
+        }
+        recording = new Recording(Configuration.getConfiguration("default"));
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeBytes);
+        recording.enable(RequestEvent.class);
+        recording.enable("jdk.JavaMonitorEnter").withThreshold(blockingThreshold).withStackTrace();
+        recording.enable("jdk.ThreadPark").withThreshold(blockingThreshold).withStackTrace();
+        recording.start();
+
+        // 이 JVM의 JFR 저장소를 읽는 스트림 - 별도 데몬 스레드에서 약 1초 간격으로 이벤트 전달
+        eventStream = EventStream.openRepository();
+        eventStream.setReuse(true); // 핸들러에서 값만 꺼내 쓰므로 RecordedEvent 객체 재사용
+        eventStream.onEvent(RequestEvent.NAME, this::onRequest);
+        eventStream.onEvent("jdk.ObjectAllocationSample", this::onAllocation);
+        eventStream.onEvent("jdk.JavaMonitorEnter", this::onBlocking);
+        eventStream.onEvent("jdk.ThreadPark", this::onBlocking);
+        eventStream.onEvent("jdk.GarbageCollection", this::onGarbageCollection);
+        eventStream.onEvent("jdk.JavaThreadStatistics", this::onThreadStatistics);
+        eventStream.onError(e -> log.warn("[Profiling] 이벤트 처리 실패", e));
+        eventStream.startAsync();
+
+        log.info("[Profiling] JFR 상시 녹화 시작 - 보관: {}분 / {}MB, 대기 기준: {}ms",
+                maxAge.toMinutes(), maxSizeBytes / 1024 / 1024, blockingThreshold.toMillis());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (eventStream != null) {
+            eventStream.close();
+        }
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    /**
+     * 요청 이벤트 시작 (AuthenticationFilter에서 요청 시작 시 호출)
+     *
+     * @return 기록 중이 아니면 null
+     */
+    public RequestEvent begin() {
+        if (!enabled) {
+            return null;
+        }
+        RequestEvent event = new RequestEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.allocatedAtStart = threadMXBean.getCurrentThreadAllocatedBytes();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 요청 이벤트 종료 및 기록 (AuthenticationFilter에서 요청 종료 시 호출)
+     *
+     * @param event begin()이 반환한 이벤트 (null이면 무시)
+     * @param request 요청 (매핑된 URL 패턴 조회용)
+     * @param status 응답 상태 코드
+     * @param sessionInfo 인증된 사용자 정보 (없으면 null)
+     */
+    public void end(RequestEvent event, HttpServletRequest request, int status, SessionInfo sessionInfo) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.route = route(request);
+        event.role = (sessionInfo != null) ? sessionInfo.getRole().name() : "ANONYMOUS";
+        event.status = status;
+        event.allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - event.allocatedAtStart;
+        event.commit();
+    }
+
+    /**
+     * 최근 구간 집계 조회
+     *
+     * @param top 경로/스택 목록 최대 개수
+     */
+    public ProfilingSnapshot snapshot(int top) {
+        return rollingProfile.snapshot(Instant.now(), top);
+    }
+
+    /**
+     * 최근 minutes분 녹화 내용을 .jfr 형식으로 출력
+     *
+     * 진행 중인 녹화를 복사 후 중지해서 현재 시점까지의 데이터를 디스크에 확정한 뒤 내보냅니다.
+     * (원본 녹화는 계속 진행)
+     */
+    public void dump(int minutes, OutputStream out) throws IOException {
+        validateDump(minutes);
+        Instant end = Instant.now();
+        try (Recording copy = recording.copy(true)) {
+            InputStream in = copy.getStream(end.minus(Duration.ofMinutes(minutes)), end);
+            if (in == null) {
+                throw new IllegalArgumentException("녹화된 데이터가 없습니다");
+            }
+            try (in) {
+                in.transferTo(out);
+            }
+        }
+    }
+
+    /**
+     * dump 요청 검증 (응답을 쓰기 전에 호출해서 400으로 응답할 수 있도록 분리)
+     */
+    public void validateDump(int minutes) {
+        if (recording == null) {
+            throw new IllegalArgumentException("프로파일링이 비활성화되어 있습니다 (profiling.enabled=false)");
+        }
+        if (minutes < 1 || minutes > maxAge.toMinutes()) {
+            throw new IllegalArgumentException("minutes는 1 이상 " + maxAge.toMinutes() + " 이하여야 합니다");
+        }
+    }
+
+    private void onRequest(RecordedEvent event) {
+        rollingProfile.recordRequest(event.getEndTime(), event.getString("route"), event.getString("role"),
+                event.getDuration().toNanos(), event.getLong("allocatedBytes"));
+    }
+
+    private void onAllocation(RecordedEvent event) {
+        rollingProfile.recordAllocation(event.getStartTime(), frames(event.getStackTrace()), event.getLong("weight"));
+    }
+
+    private void onBlocking(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (isIdleWait(stackTrace)) {
+            return;
+        }
+        rollingProfile.recordBlocking(event.getStartTime(), frames(stackTrace), event.getDuration().toNanos());
+    }
+
+    private void onGarbageCollection(RecordedEvent event) {
+        rollingProfile.recordGc(event.getStartTime(), event.getDuration("sumOfPauses").toNanos(),
+                event.getDuration("longestPause").toNanos());
+    }
+
+    private void onThreadStatistics(RecordedEvent event) {
+        rollingProfile.recordThreads(event.getStartTime(), event.getLong("activeCount"), event.getLong("peakCount"));
+    }
+
+    private static boolean isIdleWait(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return false;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame()
+                    && IDLE_FRAMES.contains(frame.getMethod().getType().getName() + "." + frame.getMethod().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 스택 상위 MAX_FRAMES개를 "클래스.메서드:줄번호" 목록으로 변환 (집계 키)
+     */
+    private static List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of("(스택 없음)");
+        }
+        List<RecordedFrame> recordedFrames = stackTrace.getFrames();
+        int size = Math.min(recordedFrames.size(), MAX_FRAMES);
+        List<String> frames = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            RecordedFrame frame = recordedFrames.get(i);
+            frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                    + ":" + frame.getLineNumber());
+        }
+        return List.copyOf(frames);
+    }
+
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // 매핑되지 않은 요청(401, 404 등)은 URI별로 나누지 않고 하나로 모음 (집계 키 수 제한)
+        return request.getMethod() + " " + (pattern != null ? pattern : "(unmatched)");
+    }
+}
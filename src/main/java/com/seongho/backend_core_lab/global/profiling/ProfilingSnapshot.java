@@ -0,0 +1,101 @@
+package com.seongho.backend_core_lab.global.profiling;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 최근 구간(profiling.window-minutes) 프로파일링 집계 (GET /admin/profiling)
+ */
+@Getter
+public class ProfilingSnapshot {
+
+    private final int windowMinutes;
+    private final List<RouteProfile> routes; // 총 소요 시간이 큰 순
+    private final GcProfile gc;
+    private final ThreadProfile threads;
+    private final List<StackProfile> topAllocations; // 샘플 할당량(weight)이 큰 순
+    private final List<StackProfile> topBlocking; // 총 대기 시간이 큰 순 (모니터 진입 + park)
+
+    ProfilingSnapshot(int windowMinutes, List<RouteProfile> routes, GcProfile gc, ThreadProfile threads,
+                      List<StackProfile> topAllocations, List<StackProfile> topBlocking) {
+        this.windowMinutes = windowMinutes;
+        this.routes = routes;
+        this.gc = gc;
+        this.threads = threads;
+        this.topAllocations = topAllocations;
+        this.topBlocking = topBlocking;
+    }
+
+    /**
+     * 경로 + 권한별 요청 통계
+     */
+    @Getter
+    public static class RouteProfile {
+
+        private final String route;
+        private final String role;
+        private final long count;
+        private final double averageMillis;
+        private final double maxMillis;
+        private final long averageAllocatedBytes;
+
+        RouteProfile(String route, String role, long count, long totalNanos, long maxNanos, long totalAllocatedBytes) {
+            this.route = route;
+            this.role = role;
+            this.count = count;
+            this.averageMillis = totalNanos / 1_000_000.0 / count;
+            this.maxMillis = maxNanos / 1_000_000.0;
+            this.averageAllocatedBytes = totalAllocatedBytes / count;
+        }
+    }
+
+    /**
+     * GC 통계
+     */
+    @Getter
+    public static class GcProfile {
+
+        private final long collections;
+        private final double totalPauseMillis;
+        private final double maxPauseMillis;
+
+        GcProfile(long collections, long totalPauseNanos, long maxPauseNanos) {
+            this.collections = collections;
+            this.totalPauseMillis = totalPauseNanos / 1_000_000.0;
+            this.maxPauseMillis = maxPauseNanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * 스레드 수 (마지막 측정값 + 구간 최댓값) - 스레드 풀 포화 여부 확인용
+     */
+    @Getter
+    public static class ThreadProfile {
+
+        private final long activeThreads;
+        private final long peakThreads;
+
+        ThreadProfile(long activeThreads, long peakThreads) {
+            this.activeThreads = activeThreads;
+            this.peakThreads = peakThreads;
+        }
+    }
+
+    /**
+     * 스택별 집계 (할당: weight = 바이트, 대기: weight = 나노초)
+     */
+    @Getter
+    public static class StackProfile {
+
+        private final List<String> frames; // 위에서부터 (가장 안쪽 호출이 먼저)
+        private final long events;
+        private final long weight;
+
+        StackProfile(List<String> frames, long events, long weight) {
+            this.frames = frames;
+            this.events = events;
+            this.weight = weight;
+        }
+    }
+}
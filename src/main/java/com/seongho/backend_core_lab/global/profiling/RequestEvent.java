@@ -0,0 +1,42 @@
+package com.seongho.backend_core_lab.global.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 요청 1건에 대한 JFR 이벤트 (AuthenticationFilter 시작 ~ 종료)
+ *
+ * JFR 녹화 파일에 GC, 락 대기, 할당 샘플과 같은 시간축으로 기록되므로
+ * JDK Mission Control에서 느린 요청과 같은 시각에 무슨 일이 있었는지 함께 볼 수 있습니다.
+ * 기간(duration)은 JFR이 begin/end로 자동 기록합니다.
+ */
+@Name(RequestEvent.NAME)
+@Label("HTTP Request")
+@Category({"Backend Core Lab", "Web"})
+@Description("AuthenticationFilter 기준 HTTP 요청 1건")
+@StackTrace(false) // 요청 종료 시점 스택은 의미가 없으므로 수집 비용 제거
+public class RequestEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.seongho.backend_core_lab.Request";
+
+    @Label("Route")
+    @Description("HTTP 메서드 + 매핑된 URL 패턴 (예: GET /admin/bulk/{jobId})")
+    String route;
+
+    @Label("Role")
+    String role;
+
+    @Label("Status")
+    int status;
+
+    @Label("Allocated")
+    @Description("요청 스레드에서 할당한 바이트")
+    @DataAmount
+    long allocatedBytes;
+
+    transient long allocatedAtStart; // transient 필드는 JFR에 기록되지 않음
+}
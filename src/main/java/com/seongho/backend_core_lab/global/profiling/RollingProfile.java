@@ -0,0 +1,197 @@
+package com.seongho.backend_core_lab.global.profiling;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 1분 단위 버킷으로 유지하는 최근 N분 집계
+ *
+ * JFR 이벤트 스트림 스레드 1개가 기록하고, 관리자 조회 시에만 읽습니다. (synchronized로 충분)
+ * 버킷마다 서로 다른 스택 수를 MAX_STACKS_PER_BUCKET개로 제한해서 메모리 사용량을 고정합니다.
+ */
+class RollingProfile {
+
+    private static final int MAX_STACKS_PER_BUCKET = 2_000;
+
+    private final int windowMinutes;
+    private final ArrayDeque<Bucket> buckets = new ArrayDeque<>(); // 오래된 순
+
+    RollingProfile(int windowMinutes) {
+        this.windowMinutes = windowMinutes;
+    }
+
+    synchronized void recordRequest(Instant time, String route, String role, long durationNanos, long allocatedBytes) {
+        bucket(time).routes
+                .computeIfAbsent(route + ' ' + role, key -> new RouteStats(route, role))
+                .add(durationNanos, allocatedBytes);
+    }
+
+    synchronized void recordAllocation(Instant time, List<String> frames, long bytes) {
+        Bucket bucket = bucket(time);
+        addStack(bucket.allocations, frames, bytes);
+    }
+
+    synchronized void recordBlocking(Instant time, List<String> frames, long nanos) {
+        Bucket bucket = bucket(time);
+        addStack(bucket.blocking, frames, nanos);
+    }
+
+    synchronized void recordGc(Instant time, long pauseNanos, long longestPauseNanos) {
+        Bucket bucket = bucket(time);
+        bucket.gcCount++;
+        bucket.gcPauseNanos += pauseNanos;
+        bucket.gcMaxPauseNanos = Math.max(bucket.gcMaxPauseNanos, longestPauseNanos);
+    }
+
+    synchronized void recordThreads(Instant time, long activeThreads, long peakThreads) {
+        Bucket bucket = bucket(time);
+        bucket.activeThreads = activeThreads;
+        bucket.peakThreads = Math.max(bucket.peakThreads, peakThreads);
+    }
+
+    /**
+     * 최근 windowMinutes분 버킷을 합친 결과
+     *
+     * @param top 스택/경로 목록 최대 개수
+     */
+    synchronized ProfilingSnapshot snapshot(Instant now, int top) {
+        long oldestMinute = now.getEpochSecond() / 60 - windowMinutes + 1;
+
+        Map<String, RouteStats> routes = new HashMap<>();
+        Map<List<String>, StackStats> allocations = new HashMap<>();
+        Map<List<String>, StackStats> blocking = new HashMap<>();
+        long gcCount = 0;
+        long gcPauseNanos = 0;
+        long gcMaxPauseNanos = 0;
+        long activeThreads = 0;
+        long peakThreads = 0;
+
+        for (Bucket bucket : buckets) {
+            if (bucket.minute < oldestMinute) {
+                continue;
+            }
+            bucket.routes.forEach((key, stats) ->
+                    routes.computeIfAbsent(key, k -> new RouteStats(stats.route, stats.role)).merge(stats));
+            bucket.allocations.forEach((frames, stats) ->
+                    allocations.computeIfAbsent(frames, k -> new StackStats()).merge(stats));
+            bucket.blocking.forEach((frames, stats) ->
+                    blocking.computeIfAbsent(frames, k -> new StackStats()).merge(stats));
+            gcCount += bucket.gcCount;
+            gcPauseNanos += bucket.gcPauseNanos;
+            gcMaxPauseNanos = Math.max(gcMaxPauseNanos, bucket.gcMaxPauseNanos);
+            activeThreads = bucket.activeThreads; // 가장 최근 버킷 값
+            peakThreads = Math.max(peakThreads, bucket.peakThreads);
+        }
+
+        List<ProfilingSnapshot.RouteProfile> routeProfiles = routes.values().stream()
+                .sorted(Comparator.comparingLong((RouteStats stats) -> stats.totalNanos).reversed())
+                .limit(top)
+                .map(stats -> new ProfilingSnapshot.RouteProfile(stats.route, stats.role, stats.count,
+                        stats.totalNanos, stats.maxNanos, stats.totalAllocatedBytes))
+                .toList();
+
+        return new ProfilingSnapshot(windowMinutes, routeProfiles,
+                new ProfilingSnapshot.GcProfile(gcCount, gcPauseNanos, gcMaxPauseNanos),
+                new ProfilingSnapshot.ThreadProfile(activeThreads, peakThreads),
+                topStacks(allocations, top), topStacks(blocking, top));
+    }
+
+    private Bucket bucket(Instant time) {
+        long minute = time.getEpochSecond() / 60;
+        Bucket last = buckets.peekLast();
+        if (last != null && last.minute >= minute) {
+            return last; // 늦게 도착한 이벤트는 최신 버킷에 포함
+        }
+        Bucket bucket = new Bucket(minute);
+        buckets.addLast(bucket);
+        while (buckets.peekFirst().minute <= minute - windowMinutes) {
+            buckets.removeFirst();
+        }
+        return bucket;
+    }
+
+    private static void addStack(Map<List<String>, StackStats> stacks, List<String> frames, long weight) {
+        StackStats stats = stacks.get(frames);
+        if (stats == null) {
+            if (stacks.size() >= MAX_STACKS_PER_BUCKET) {
+                return; // 이번 분에는 새 스택을 더 받지 않음
+            }
+            stats = new StackStats();
+            stacks.put(frames, stats);
+        }
+        stats.events++;
+        stats.weight += weight;
+    }
+
+    private static List<ProfilingSnapshot.StackProfile> topStacks(Map<List<String>, StackStats> stacks, int top) {
+        return stacks.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<List<String>, StackStats> entry) -> entry.getValue().weight)
+                        .reversed())
+                .limit(top)
+                .map(entry -> new ProfilingSnapshot.StackProfile(
+                        entry.getKey(), entry.getValue().events, entry.getValue().weight))
+                .toList();
+    }
+
+    private static class Bucket {
+
+        private final long minute; // epoch 기준 분
+        private final Map<String, RouteStats> routes = new HashMap<>();
+        private final Map<List<String>, StackStats> allocations = new HashMap<>();
+        private final Map<List<String>, StackStats> blocking = new HashMap<>();
+        private long gcCount;
+        private long gcPauseNanos;
+        private long gcMaxPauseNanos;
+        private long activeThreads;
+        private long peakThreads;
+
+        Bucket(long minute) {
+            this.minute = minute;
+        }
+    }
+
+    private static class RouteStats {
+
+        private final String route;
+        private final String role;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long totalAllocatedBytes;
+
+        RouteStats(String route, String role) {
+            this.route = route;
+            this.role = role;
+        }
+
+        void add(long durationNanos, long allocatedBytes) {
+            count++;
+            totalNanos += durationNanos;
+            maxNanos = Math.max(maxNanos, durationNanos);
+            totalAllocatedBytes += allocatedBytes;
+        }
+
+        void merge(RouteStats other) {
+            count += other.count;
+            totalNanos += other.totalNanos;
+            maxNanos = Math.max(maxNanos, other.maxNanos);
+            totalAllocatedBytes += other.totalAllocatedBytes;
+        }
+    }
+
+    private static class StackStats {
+
+        private long events;
+        private long weight;
+
+        void merge(StackStats other) {
+            events += other.events;
+            weight += other.weight;
+        }
+    }
+}
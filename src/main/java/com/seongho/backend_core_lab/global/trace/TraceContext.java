@@ -0,0 +1,194 @@
+package com.seongho.backend_core_lab.global.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 단위 트레이스 버퍼 (스레드 로컬)
+ *
+ * 요청 하나를 처리하는 동안 Filter → Interceptor → Controller → Service → SQL 구간을
+ * span으로 기록합니다.
+ *
+ * <설계>
+ * - 스레드마다 한 번 만든 고정 크기 배열을 재사용 → 요청마다 span 객체를 생성하지 않음
+ * - startSpan()이 int 인덱스를 반환하고, endSpan(index)로 닫는다 (try/finally로 사용)
+ * - 활성 트레이스가 없으면 startSpan()은 NO_SPAN(-1)을 반환하고 아무것도 기록하지 않음
+ * - 버퍼가 가득 차면 이후 span은 버리고 개수만 센다 (droppedSpans)
+ *
+ * <사용 예>
+ * int span = TraceContext.startSpan(TraceContext.SERVICE, "AuthService.login");
+ * try {
+ *     ...
+ * } finally {
+ *     TraceContext.endSpan(span);
+ * }
+ */
+public final class TraceContext {
+
+    public static final int NO_SPAN = -1;
+
+    // span 분류 (웹 화면의 waterfall에서 구간 종류로 표시)
+    public static final String FILTER = "filter";
+    public static final String INTERCEPTOR = "interceptor";
+    public static final String CONTROLLER = "controller";
+    public static final String SERVICE = "service";
+    public static final String CRYPTO = "crypto";
+    public static final String SESSION = "session";
+    public static final String SQL = "sql";
+
+    static final int MAX_SPANS = 128; // 요청 하나당 최대 span 개수
+
+    private static final ThreadLocal<TraceContext> CURRENT = ThreadLocal.withInitial(TraceContext::new);
+
+    private final String[] categories = new String[MAX_SPANS];
+    private final String[] names = new String[MAX_SPANS];
+    private final int[] depths = new int[MAX_SPANS];
+    private final long[] startNanos = new long[MAX_SPANS];
+    private final long[] endNanos = new long[MAX_SPANS];
+
+    private boolean active;
+    private boolean headSampled;
+    private boolean error;
+    private String traceId;
+    private long traceStartNanos;
+    private long traceStartEpochMillis;
+    private int size;
+    private int depth;
+    private int droppedSpans;
+
+    private TraceContext() {
+    }
+
+    static TraceContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 새 트레이스 시작 (AuthenticationFilter → TraceRecorder에서 호출)
+     *
+     * 이전 요청에서 쓰던 배열을 그대로 재사용합니다.
+     */
+    void begin(String traceId, boolean headSampled) {
+        this.active = true;
+        this.headSampled = headSampled;
+        this.error = false;
+        this.traceId = traceId;
+        this.traceStartNanos = System.nanoTime();
+        this.traceStartEpochMillis = System.currentTimeMillis();
+        this.size = 0;
+        this.depth = 0;
+        this.droppedSpans = 0;
+    }
+
+    /**
+     * 트레이스 종료
+     *
+     * 다음 요청까지 SQL 문자열 등을 붙잡고 있지 않도록 참조를 정리합니다.
+     */
+    void finish() {
+        for (int i = 0; i < size; i++) {
+            categories[i] = null;
+            names[i] = null;
+        }
+        this.active = false;
+        this.traceId = null;
+        this.size = 0;
+        this.depth = 0;
+    }
+
+    /**
+     * span 시작
+     *
+     * @param category span 분류 (FILTER, SERVICE, SQL 등)
+     * @param name span 이름 (이미 존재하는 문자열을 넘겨야 할당이 생기지 않음)
+     * @return span 인덱스 (기록하지 않으면 NO_SPAN)
+     */
+    public static int startSpan(String category, String name) {
+        TraceContext context = CURRENT.get();
+        if (!context.active) {
+            return NO_SPAN;
+        }
+        if (context.size == MAX_SPANS) {
+            context.droppedSpans++;
+            return NO_SPAN;
+        }
+
+        int index = context.size++;
+        context.categories[index] = category;
+        context.names[index] = name;
+        context.depths[index] = context.depth++;
+        context.startNanos[index] = System.nanoTime();
+        context.endNanos[index] = 0L; // 0 = 아직 닫히지 않음
+        return index;
+    }
+
+    /**
+     * span 종료
+     *
+     * @param index startSpan()이 반환한 인덱스
+     */
+    public static void endSpan(int index) {
+        if (index == NO_SPAN) {
+            return;
+        }
+        TraceContext context = CURRENT.get();
+        if (!context.active || index >= context.size) {
+            return; // 이미 끝난 트레이스의 span
+        }
+        context.endNanos[index] = System.nanoTime();
+        context.depth = context.depths[index];
+    }
+
+    /**
+     * 현재 요청을 오류로 표시 (오류 요청은 샘플링과 관계없이 항상 보관)
+     */
+    public static void markError() {
+        TraceContext context = CURRENT.get();
+        if (context.active) {
+            context.error = true;
+        }
+    }
+
+    /**
+     * 현재 스레드의 트레이스 ID (활성 트레이스가 없으면 null)
+     */
+    public static String currentTraceId() {
+        TraceContext context = CURRENT.get();
+        return context.active ? context.traceId : null;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    boolean isHeadSampled() {
+        return headSampled;
+    }
+
+    boolean isError() {
+        return error;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - traceStartNanos;
+    }
+
+    /**
+     * 보관하기로 결정된 트레이스만 불변 객체로 복사 (이때만 할당 발생)
+     */
+    TraceRecord snapshot(String method, String uri, int status, long durationNanos, String reason) {
+        List<TraceRecord.SpanRecord> spans = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long durationMicros = endNanos[i] == 0L ? -1L : (endNanos[i] - startNanos[i]) / 1_000;
+            spans.add(new TraceRecord.SpanRecord(
+                    categories[i],
+                    names[i],
+                    depths[i],
+                    (startNanos[i] - traceStartNanos) / 1_000,
+                    durationMicros
+            ));
+        }
+        return new TraceRecord(traceId, method, uri, status, reason,
+                traceStartEpochMillis, durationNanos / 1_000, droppedSpans, spans);
+    }
+}
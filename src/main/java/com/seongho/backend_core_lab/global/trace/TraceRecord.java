@@ -0,0 +1,64 @@
+package com.seongho.backend_core_lab.global.trace;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 보관된 트레이스 1건 (불변)
+ *
+ * GET /admin/traces 응답으로 그대로 직렬화됩니다.
+ * spans는 시작 순서대로 정렬되어 있고, depth와 offsetMicros로 waterfall을 그릴 수 있습니다.
+ */
+@Getter
+public class TraceRecord {
+
+    private final String traceId;
+    private final String method;
+    private final String uri;
+    private final int status;
+    private final String reason; // 보관 사유: SLOW, ERROR, SAMPLED
+    private final LocalDateTime startedAt;
+    private final long durationMicros;
+    private final int droppedSpans;
+    private final List<SpanRecord> spans;
+
+    TraceRecord(String traceId, String method, String uri, int status, String reason,
+                long startedAtEpochMillis, long durationMicros, int droppedSpans, List<SpanRecord> spans) {
+        this.traceId = traceId;
+        this.method = method;
+        this.uri = uri;
+        this.status = status;
+        this.reason = reason;
+        this.startedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(startedAtEpochMillis), ZoneId.systemDefault());
+        this.durationMicros = durationMicros;
+        this.droppedSpans = droppedSpans;
+        this.spans = List.copyOf(spans);
+    }
+
+    /**
+     * 트레이스 안의 구간 1개
+     * - offsetMicros: 요청 시작 시점부터 span 시작까지
+     * - durationMicros: span 소요 시간 (-1이면 닫히지 않은 span)
+     */
+    @Getter
+    public static class SpanRecord {
+
+        private final String category;
+        private final String name;
+        private final int depth;
+        private final long offsetMicros;
+        private final long durationMicros;
+
+        SpanRecord(String category, String name, int depth, long offsetMicros, long durationMicros) {
+            this.category = category;
+            this.name = name;
+            this.depth = depth;
+            this.offsetMicros = offsetMicros;
+            this.durationMicros = durationMicros;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.seongho.backend_core_lab.global.trace;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청 트레이스 시작/종료 및 샘플링 담당
+ *
+ * <샘플링 규칙>
+ * - 모든 요청은 스레드 로컬 버퍼에 기록된다 (배열 재사용이라 비용이 거의 없음)
+ * - head 샘플링: 요청 시작 시 trace.sample-rate 확률로 "보관 대상"으로 표시
+ * - tail 샘플링: 요청 종료 시 느린 요청(trace.slow-threshold-ms 이상)과
+ *   오류 요청(예외 또는 5xx)은 head 샘플링 결과와 관계없이 항상 보관
+ *
+ * 보관된 트레이스는 최근 trace.max-traces건만 링 버퍼에 유지되며
+ * GET /admin/traces 로 조회할 수 있습니다.
+ */
+@Component
+public class TraceRecorder {
+
+    public static final String TRACE_ID_HEADER = "X-Request-Id";
+
+    private static final int MAX_INCOMING_ID_LENGTH = 64;
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    private final TraceRecord[] recentTraces; // 링 버퍼
+    private int nextIndex;
+    private long keptCount;
+
+    public TraceRecorder(@Value("${trace.enabled:true}") boolean enabled,
+                         @Value("${trace.sample-rate:0.01}") double sampleRate,
+                         @Value("${trace.slow-threshold-ms:200}") long slowThresholdMillis,
+                         @Value("${trace.max-traces:50}") int maxTraces) {
+        if (maxTraces <= 0) {
+            throw new IllegalArgumentException("trace.max-traces는 1 이상이어야 합니다");
+        }
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000L;
+        this.recentTraces = new TraceRecord[maxTraces];
+    }
+
+    /**
+     * 트레이스 시작
+     *
+     * 클라이언트가 보낸 X-Request-Id가 있으면 그대로 상관관계 ID로 사용하고,
+     * 없거나 허용되지 않는 값이면 새로 생성합니다.
+     * (응답 헤더와 로그(MDC)에 그대로 들어가므로 영문/숫자/-/_ 만 허용 → 줄바꿈 등으로 로그 위조 방지)
+     *
+     * @param incomingTraceId 요청 헤더의 X-Request-Id (없으면 null)
+     * @return 이 요청의 상관관계 ID
+     */
+    public String begin(String incomingTraceId) {
+        String traceId = isValidTraceId(incomingTraceId) ? incomingTraceId : generateTraceId();
+        if (enabled) {
+            boolean headSampled = ThreadLocalRandom.current().nextDouble() < sampleRate;
+            TraceContext.current().begin(traceId, headSampled);
+        }
+        return traceId;
+    }
+
+    /**
+     * 트레이스 종료 및 보관 여부 결정 (tail 샘플링)
+     *
+     * @param method HTTP 메서드
+     * @param uri 요청 URI
+     * @param status 응답 상태 코드
+     */
+    public void end(String method, String uri, int status) {
+        TraceContext context = TraceContext.current();
+        if (!context.isActive()) {
+            return;
+        }
+        try {
+            long durationNanos = context.elapsedNanos();
+            String reason = keepReason(context, status, durationNanos);
+            if (reason != null) {
+                store(context.snapshot(method, uri, status, durationNanos, reason));
+            }
+        } finally {
+            context.finish();
+        }
+    }
+
+    /**
+     * 최근 보관된 트레이스 조회 (최신순)
+     */
+    public synchronized List<TraceRecord> getRecentTraces() {
+        List<TraceRecord> result = new ArrayList<>(recentTraces.length);
+        for (int i = 1; i <= recentTraces.length; i++) {
+            TraceRecord trace = recentTraces[(nextIndex - i + recentTraces.length) % recentTraces.length];
+            if (trace != null) {
+                result.add(trace);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 지금까지 보관된 트레이스 총 개수
+     */
+    public synchronized long getKeptCount() {
+        return keptCount;
+    }
+
+    private String keepReason(TraceContext context, int status, long durationNanos) {
+        if (context.isError() || status >= 500) {
+            return "ERROR";
+        }
+        if (durationNanos >= slowThresholdNanos) {
+            return "SLOW";
+        }
+        if (context.isHeadSampled()) {
+            return "SAMPLED";
+        }
+        return null;
+    }
+
+    private synchronized void store(TraceRecord trace) {
+        recentTraces[nextIndex] = trace;
+        nextIndex = (nextIndex + 1) % recentTraces.length;
+        keptCount++;
+    }
+
+    static boolean isValidTraceId(String traceId) {
+        if (traceId == null || traceId.isEmpty() || traceId.length() > MAX_INCOMING_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String generateTraceId() {
+        // UUID.randomUUID()는 SecureRandom을 사용하므로 요청마다 쓰기엔 비쌈
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
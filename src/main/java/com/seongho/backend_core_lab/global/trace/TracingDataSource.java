@@ -0,0 +1,147 @@
+package com.seongho.backend_core_lab.global.trace;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQL 실행 구간을 트레이스에 기록하는 DataSource 래퍼
+ *
+ * Connection / Statement를 JDK 동적 프록시로 감싸서
+ * execute* 메서드 실행 시간을 SQL span으로 기록합니다.
+ * (Hibernate가 만드는 SQL 문자열을 그대로 span 이름으로 사용 → 추가 할당 없음)
+ *
+ * TracingDataSourcePostProcessor가 스프링 컨테이너의 DataSource 빈을 자동으로 감쌉니다.
+ */
+public class TracingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final String BATCH = "batch";
+
+    public TracingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    /**
+     * 감싸고 있는 DataSource 종료 (Hikari 커넥션 풀, 레플리카 라우팅 DataSource 등)
+     *
+     * 스프링은 후처리된 빈(이 래퍼)의 close()를 호출하므로,
+     * 여기서 위임 체인을 따라 내려가 실제 풀을 닫아야 합니다.
+     */
+    @Override
+    public void close() throws Exception {
+        DataSource target = getTargetDataSource();
+        while (target instanceof DelegatingDataSource delegating) {
+            target = delegating.getTargetDataSource(); // 예: LazyConnectionDataSourceProxy
+        }
+        if (target instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                TracingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException(); // 원래 예외(SQLException 등)를 그대로 전달
+        }
+    }
+
+    /**
+     * Connection 프록시: Statement 생성 메서드만 가로채서 Statement 프록시를 반환
+     */
+    private static class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(target, method, args);
+
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return wrapStatement(result, PreparedStatement.class, (String) args[0]);
+                case "prepareCall":
+                    return wrapStatement(result, CallableStatement.class, (String) args[0]);
+                case "createStatement":
+                    return wrapStatement(result, Statement.class, null);
+                default:
+                    return result;
+            }
+        }
+
+        private Object wrapStatement(Object statement, Class<?> type, String sql) {
+            return Proxy.newProxyInstance(
+                    TracingDataSource.class.getClassLoader(),
+                    new Class<?>[]{type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    /**
+     * Statement 프록시: execute* 호출을 SQL span으로 기록
+     */
+    private static class StatementHandler implements InvocationHandler {
+
+        private final Object target;
+        private final String sql; // PreparedStatement는 생성 시점의 SQL, Statement는 null
+
+        StatementHandler(Object target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return invokeTarget(target, method, args);
+            }
+
+            int span = TraceContext.startSpan(TraceContext.SQL, resolveSql(args));
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                TraceContext.endSpan(span);
+            }
+        }
+
+        private String resolveSql(Object[] args) {
+            if (sql != null) {
+                return sql;
+            }
+            if (args != null && args.length > 0 && args[0] instanceof String statementSql) {
+                return statementSql; // Statement.execute(sql)
+            }
+            return BATCH; // Statement.executeBatch()
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.seongho.backend_core_lab.global.trace;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 스프링 컨테이너의 DataSource 빈을 TracingDataSource로 감싸는 후처리기
+ *
+ * 자동 설정된 DataSource(Hikari) 설정은 그대로 두고,
+ * 커넥션을 꺼내는 지점에만 SQL span 기록을 끼워 넣습니다.
+ */
+@Component
+public class TracingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+            return new TracingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
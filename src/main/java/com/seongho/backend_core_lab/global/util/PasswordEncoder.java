@@ -1,5 +1,6 @@
 package com.seongho.backend_core_lab.global.util;
 
+import com.seongho.backend_core_lab.global.trace.TraceContext;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -24,7 +25,12 @@ public class PasswordEncoder {
      * @return BCrypt로 암호화된 비밀번호 / 암호화된 비밀번호
      */
     public String encode(String rawPassword) {
-        return bCryptPasswordEncoder.encode(rawPassword);
+        int span = TraceContext.startSpan(TraceContext.CRYPTO, "PasswordEncoder.encode");
+        try {
+            return bCryptPasswordEncoder.encode(rawPassword);
+        } finally {
+            TraceContext.endSpan(span);
+        }
     }
     
     /**
@@ -38,6 +44,11 @@ public class PasswordEncoder {
      * @return 일치하면 true, 불일치하면 false
      */
     public boolean matches(String rawPassword, String encodedPassword) {
-        return bCryptPasswordEncoder.matches(rawPassword, encodedPassword);
+        int span = TraceContext.startSpan(TraceContext.CRYPTO, "PasswordEncoder.matches");
+        try {
+            return bCryptPasswordEncoder.matches(rawPassword, encodedPassword);
+        } finally {
+            TraceContext.endSpan(span);
+        }
     }
 }
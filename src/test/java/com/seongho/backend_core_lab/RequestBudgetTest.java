@@ -0,0 +1,138 @@
+package com.seongho.backend_core_lab;
+
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import com.seongho.backend_core_lab.global.auth.SessionInfo;
+import com.seongho.backend_core_lab.global.auth.SessionStore;
+import com.seongho.backend_core_lab.global.filter.AuthenticationFilter;
+import com.seongho.backend_core_lab.support.RequestBudget;
+import com.seongho.backend_core_lab.support.RequestCost;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 실행 수 / 할당량 예산 테스트 (성능 회귀 감지)
+ *
+ * exists 쿼리 추가, N+1, 요청당 객체 폭증 같은 변경이 들어오면 실패합니다.
+ * 운영 설정(prod 프로필)으로 측정하며, 결과는 build/reports/request-budget.tsv에 기록됩니다.
+ * 상시 프로파일링(profiling.enabled)은 끄고 측정하므로 예산에 프로파일러 오버헤드는 포함되지 않습니다.
+ *
+ * <예산을 바꿔야 할 때>
+ * 의도한 변경으로 비용이 늘었다면 리포트 diff를 확인하고 아래 상수를 함께 수정합니다.
+ * 할당량 예산은 JVM/라이브러리 버전에 따른 차이를 감안해 여유 있게 잡은 상한입니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:request-budget", // 다른 테스트 컨텍스트와 DB 분리
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "trace.sample-rate=0", // head 샘플링에 따른 측정값 흔들림 방지
+        "access-log.success-sample-rate=1.0", // 접근 로그는 항상 기록하는 경우로 측정
+        "session.tiering.enabled=false",
+        "datasource.sharding.worker-id=0", // prod 프로필은 WORKER_ID 환경 변수를 요구하므로 테스트용 번호 지정
+        "profiling.enabled=false" // JFR 녹화와 요청별 RequestEvent 생성은 예산에서 제외 (애플리케이션 비용만 측정)
+})
+@ActiveProfiles("prod")
+class RequestBudgetTest {
+
+    private static final String PASSWORD = "password1234!";
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private AuthenticationFilter authenticationFilter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    private MockMvc mockMvc;
+    private RequestBudget requestBudget;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(authenticationFilter)
+                .build();
+        requestBudget = new RequestBudget(mockMvc, entityManagerFactory);
+    }
+
+    @AfterAll
+    static void writeReport() {
+        RequestBudget.writeReport();
+    }
+
+    @Test
+    void signup() throws Exception {
+        // existsByUsername + existsByEmail + INSERT
+        RequestCost cost = requestBudget.measure("POST /auth/signup", () -> signupRequest(nextUsername()));
+
+        RequestBudget.assertWithinBudget(cost, 3, 1024 * 1024);
+    }
+
+    @Test
+    void login() throws Exception {
+        String username = nextUsername();
+        mockMvc.perform(signupRequest(username)).andExpect(status().isCreated());
+
+        // findByUsername
+        RequestCost cost = requestBudget.measure("POST /auth/login", () -> post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}"));
+
+        RequestBudget.assertWithinBudget(cost, 1, 1024 * 1024);
+    }
+
+    @Test
+    void logout() throws Exception {
+        // 세션 저장소만 사용 → SQL 없음
+        RequestCost cost = requestBudget.measure("POST /auth/logout", () -> post("/auth/logout")
+                .header("X-Session-Id", newSession(Role.USER)));
+
+        RequestBudget.assertWithinBudget(cost, 0, 256 * 1024);
+    }
+
+    @Test
+    void admin() throws Exception {
+        String sessionId = newSession(Role.ADMIN);
+
+        // Filter 세션 인증 + Interceptor 권한 확인 → SQL 없음
+        RequestCost cost = requestBudget.measure("GET /admin", () -> get("/admin")
+                .header("X-Session-Id", sessionId));
+
+        RequestBudget.assertWithinBudget(cost, 0, 256 * 1024);
+    }
+
+    private RequestBuilder signupRequest(String username) {
+        return post("/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD
+                        + "\",\"email\":\"" + username + "@example.com\"}");
+    }
+
+    private String nextUsername() {
+        return "budget" + SEQUENCE.incrementAndGet();
+    }
+
+    private String newSession(Role role) {
+        return sessionStore.createSession(new SessionInfo(1L, "budget-" + role.name().toLowerCase(), role));
+    }
+}
@@ -0,0 +1,220 @@
+package com.seongho.backend_core_lab.domain.admin.service;
+
+import com.seongho.backend_core_lab.domain.admin.dto.BulkJobResponse;
+import com.seongho.backend_core_lab.domain.admin.dto.BulkPasswordResetRequest;
+import com.seongho.backend_core_lab.domain.admin.dto.BulkRoleUpdateRequest;
+import com.seongho.backend_core_lab.domain.user.entity.User;
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import com.seongho.backend_core_lab.domain.user.repository.ShardedUserRepository;
+import com.seongho.backend_core_lab.global.auth.SessionInfo;
+import com.seongho.backend_core_lab.global.auth.SessionStore;
+import com.seongho.backend_core_lab.global.auth.VerifiedCredentialCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 관리자 일괄 작업 서비스 테스트
+ *
+ * 작업 실행 시점을 테스트가 직접 제어하도록 executor를 바꿔 끼우고,
+ * 세션 무효화 호출(chunk 커밋 직후 1번)을 기록해서 chunk 경계를 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + AdminBulkServiceTest.URL,
+        "session.tiering.enabled=false"
+})
+class AdminBulkServiceTest {
+
+    static final String URL = "jdbc:h2:mem:admin-bulk;DB_CLOSE_DELAY=-1";
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private ShardedUserRepository userRepository;
+
+    @Autowired
+    private VerifiedCredentialCache verifiedCredentialCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+    private final List<Runnable> pending = new ArrayList<>();
+    private RecordingSessionStore sessionStore;
+    private AdminBulkService service;
+
+    @BeforeEach
+    void setUp() {
+        pending.clear();
+        sessionStore = new RecordingSessionStore();
+        service = new AdminBulkService(userRepository, sessionStore, verifiedCredentialCache,
+                transactionManager, CHUNK_SIZE, pending::add);
+    }
+
+    @Test
+    void roleUpdateRunsInChunksAndInvalidatesSessions() {
+        List<Long> ids = createUsers("chunked", 5);
+        ids.forEach(id -> sessionStore.createSession(new SessionInfo(id, "chunked", Role.USER)));
+
+        BulkJobResponse started = service.startRoleUpdate(new BulkRoleUpdateRequest(ids, null, null, Role.ADMIN));
+        runPending();
+
+        BulkJobResponse job = service.getJob(started.getJobId());
+        assertEquals(BulkJob.Status.COMPLETED, job.getStatus());
+        assertEquals(5, job.getProcessed());
+        assertEquals(5, job.getSessionsInvalidated());
+        assertEquals(List.of(ids.subList(0, 2), ids.subList(2, 4), ids.subList(4, 5)), sessionStore.invalidatedChunks);
+        assertEquals(0, sessionStore.getActiveSessionCount());
+        assertEquals(5, countWithRole(ids, Role.ADMIN));
+    }
+
+    @Test
+    void failedChunkIsRolledBackAndRetriedFromThatChunk() {
+        List<Long> ids = createUsers("poison", 4);
+        // 3번째 사용자(두 번째 chunk)만 ADMIN으로 바꿀 수 없도록 제약 조건 추가
+        jdbcTemplate.execute("ALTER TABLE users ADD CONSTRAINT bulk_poison CHECK (id <> " + ids.get(2) + " OR role <> 'ADMIN')");
+        try {
+            BulkJobResponse started = service.startRoleUpdate(new BulkRoleUpdateRequest(ids, null, null, Role.ADMIN));
+            runPending();
+
+            BulkJobResponse job = service.getJob(started.getJobId());
+            assertEquals(BulkJob.Status.FAILED, job.getStatus());
+            assertEquals(2, job.getProcessed());
+            assertEquals(2, countWithRole(ids.subList(0, 2), Role.ADMIN)); // 첫 chunk는 커밋 유지
+            assertEquals(0, countWithRole(ids.subList(2, 4), Role.ADMIN)); // 실패한 chunk는 통째로 롤백
+
+            jdbcTemplate.execute("ALTER TABLE users DROP CONSTRAINT bulk_poison");
+            service.retry(started.getJobId());
+            runPending();
+
+            BulkJobResponse retried = service.getJob(started.getJobId());
+            assertEquals(BulkJob.Status.COMPLETED, retried.getStatus());
+            assertEquals(4, retried.getProcessed()); // 실패한 chunk부터 다시 실행 (첫 chunk는 다시 처리하지 않음)
+            assertEquals(4, countWithRole(ids, Role.ADMIN));
+            assertThrows(IllegalArgumentException.class, () -> service.retry(started.getJobId())); // 실패한 작업만 재시도
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE users DROP CONSTRAINT IF EXISTS bulk_poison");
+        }
+    }
+
+    @Test
+    void cancelStopsBeforeTheNextChunk() {
+        List<Long> ids = createUsers("cancel", 5);
+        BulkJobResponse started = service.startRoleUpdate(new BulkRoleUpdateRequest(ids, null, null, Role.ADMIN));
+        sessionStore.afterInvalidation = chunk -> service.cancel(started.getJobId()); // 첫 chunk 커밋 직후 취소
+
+        runPending();
+
+        BulkJobResponse job = service.getJob(started.getJobId());
+        assertEquals(BulkJob.Status.CANCELLED, job.getStatus());
+        assertEquals(2, job.getProcessed());
+        assertEquals(2, countWithRole(ids, Role.ADMIN));
+    }
+
+    @Test
+    void bulkJobsEvictVerifiedCredentials() {
+        List<Long> ids = createUsers("cached", 3);
+        VerifiedCredentialCache enabledCache = new VerifiedCredentialCache(true, 60, 100);
+        AdminBulkService cachingService = new AdminBulkService(userRepository, sessionStore, enabledCache,
+                transactionManager, CHUNK_SIZE, pending::add);
+        ids.forEach(id -> enabledCache.put(id, "encoded-password", "password"));
+
+        cachingService.startRoleUpdate(new BulkRoleUpdateRequest(ids.subList(0, 1), null, null, Role.ADMIN));
+        cachingService.startPasswordReset(new BulkPasswordResetRequest(ids.subList(1, 2), null));
+        runPending();
+
+        // JPQL 일괄 UPDATE는 엔티티 리스너를 거치지 않으므로 작업이 직접 삭제해야 함
+        assertFalse(enabledCache.matches(ids.get(0), "encoded-password", "password"));
+        assertFalse(enabledCache.matches(ids.get(1), "encoded-password", "password"));
+        assertTrue(enabledCache.matches(ids.get(2), "encoded-password", "password")); // 대상이 아닌 사용자는 유지
+    }
+
+    @Test
+    void finishedJobsAreEvictedButRunningJobsAreKept() {
+        List<Long> ids = createUsers("evict", 1);
+        BulkRoleUpdateRequest request = new BulkRoleUpdateRequest(ids, null, null, Role.USER);
+
+        String oldest = service.startRoleUpdate(request).getJobId();
+        runPending();
+        String running = service.startRoleUpdate(request).getJobId(); // 실행하지 않고 남겨둠
+        List<Runnable> notStarted = new ArrayList<>(pending);
+        pending.clear();
+        for (int i = 0; i < 98; i++) {
+            service.startRoleUpdate(request);
+            runPending();
+        }
+
+        service.startRoleUpdate(request); // 101번째 작업 시작 시 완료된 작업 정리
+
+        assertThrows(IllegalArgumentException.class, () -> service.getJob(oldest));
+        assertEquals(BulkJob.Status.RUNNING, service.getJob(running).getStatus());
+        notStarted.forEach(Runnable::run);
+    }
+
+    private List<Long> createUsers(String prefix, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String username = prefix + i;
+            String email = username + "@example.com";
+            User user = userRepository.save(User.builder()
+                    .id(userRepository.newUserId(username, email))
+                    .username(username)
+                    .password("encoded-password")
+                    .email(email)
+                    .role(Role.USER)
+                    .build());
+            ids.add(user.getId());
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    private void runPending() {
+        while (!pending.isEmpty()) {
+            pending.remove(0).run();
+        }
+    }
+
+    private int countWithRole(List<Long> ids, Role role) {
+        int count = 0;
+        for (Long id : ids) {
+            count += jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id = ? AND role = ?",
+                    Integer.class, id, role.name());
+        }
+        return count;
+    }
+
+    /**
+     * chunk마다 호출되는 세션 무효화를 기록하는 세션 저장소 (핫 티어만 사용)
+     */
+    private static class RecordingSessionStore extends SessionStore {
+
+        private final List<List<Long>> invalidatedChunks = new ArrayList<>();
+        private Consumer<Collection<Long>> afterInvalidation = chunk -> { };
+
+        RecordingSessionStore() {
+            super(false, 1800, 60, "unused", 8, 5);
+        }
+
+        @Override
+        public int removeSessionsByUserIds(Collection<Long> userIds) {
+            int removed = super.removeSessionsByUserIds(userIds);
+            invalidatedChunks.add(List.copyOf(userIds));
+            afterInvalidation.accept(userIds);
+            return removed;
+        }
+    }
+}
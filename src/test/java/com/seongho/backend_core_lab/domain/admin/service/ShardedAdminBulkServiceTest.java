@@ -0,0 +1,118 @@
+package com.seongho.backend_core_lab.domain.admin.service;
+
+import com.seongho.backend_core_lab.domain.admin.dto.BulkJobResponse;
+import com.seongho.backend_core_lab.domain.admin.dto.BulkRoleUpdateRequest;
+import com.seongho.backend_core_lab.domain.user.entity.User;
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import com.seongho.backend_core_lab.domain.user.repository.ShardedUserRepository;
+import com.seongho.backend_core_lab.domain.user.shard.UserIdGenerator;
+import com.seongho.backend_core_lab.global.auth.SessionStore;
+import com.seongho.backend_core_lab.global.auth.VerifiedCredentialCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 샤딩 사용 시 일괄 작업 테스트
+ *
+ * chunk 1개가 샤드별로 따로 커밋되므로, 한 샤드가 실패해도 다른 샤드의 커밋은 남습니다.
+ * 재시도 시 샤드별 진행 기록으로 이미 커밋된 샤드를 다시 UPDATE하지 않는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-sharding-directory;DB_CLOSE_DELAY=-1",
+        "datasource.sharding.enabled=true",
+        "datasource.sharding.shards[0].url=" + ShardedAdminBulkServiceTest.SHARD_0_URL,
+        "datasource.sharding.shards[0].username=sa",
+        "datasource.sharding.shards[1].url=" + ShardedAdminBulkServiceTest.SHARD_1_URL,
+        "datasource.sharding.shards[1].username=sa",
+        "session.tiering.enabled=false"
+})
+class ShardedAdminBulkServiceTest {
+
+    static final String SHARD_0_URL = "jdbc:h2:mem:bulk-sharding-0;DB_CLOSE_DELAY=-1";
+    static final String SHARD_1_URL = "jdbc:h2:mem:bulk-sharding-1;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private ShardedUserRepository userRepository;
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    @Autowired
+    private VerifiedCredentialCache verifiedCredentialCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void retrySkipsShardsThatAlreadyCommittedTheFailedChunk() {
+        List<Long> shard0 = new ArrayList<>();
+        List<Long> shard1 = new ArrayList<>();
+        for (int i = 0; shard0.size() < 2 || shard1.size() < 2; i++) {
+            long id = createUser("shardbulk" + i);
+            (UserIdGenerator.shardOf(id) == 0 ? shard0 : shard1).add(id);
+        }
+        List<Long> ids = new ArrayList<>(shard0);
+        ids.addAll(shard1);
+
+        List<Runnable> pending = new ArrayList<>();
+        AdminBulkService service = new AdminBulkService(userRepository, sessionStore, verifiedCredentialCache,
+                transactionManager, 1000, pending::add); // 전체가 chunk 1개
+
+        JdbcTemplate shard1Jdbc = new JdbcTemplate(new DriverManagerDataSource(SHARD_1_URL, "sa", ""));
+        shard1Jdbc.execute("ALTER TABLE users ADD CONSTRAINT shard_poison CHECK (id <> " + shard1.get(0) + " OR role <> 'ADMIN')");
+        try {
+            String jobId = service.startRoleUpdate(new BulkRoleUpdateRequest(ids, null, null, Role.ADMIN)).getJobId();
+            pending.remove(0).run();
+
+            BulkJobResponse failed = service.getJob(jobId);
+            assertEquals(BulkJob.Status.FAILED, failed.getStatus());
+            assertEquals(shard0.size(), failed.getProcessed()); // 샤드 0만 커밋
+            assertEquals(Map.of(0, shard0.stream().mapToLong(Long::longValue).max().orElseThrow()),
+                    failed.getCommittedUpToByShard());
+            assertEquals(shard0.size(), countAdmins(SHARD_0_URL, shard0));
+            assertEquals(0, countAdmins(SHARD_1_URL, shard1));
+
+            shard1Jdbc.execute("ALTER TABLE users DROP CONSTRAINT shard_poison");
+            service.retry(jobId);
+            pending.remove(0).run();
+
+            BulkJobResponse retried = service.getJob(jobId);
+            assertEquals(BulkJob.Status.COMPLETED, retried.getStatus());
+            assertEquals(ids.size(), retried.getProcessed()); // 샤드 0은 다시 UPDATE하지 않음
+            assertEquals(shard1.size(), countAdmins(SHARD_1_URL, shard1));
+        } finally {
+            shard1Jdbc.execute("ALTER TABLE users DROP CONSTRAINT IF EXISTS shard_poison");
+        }
+    }
+
+    private long createUser(String username) {
+        String email = username + "@example.com";
+        return userRepository.save(User.builder()
+                .id(userRepository.newUserId(username, email))
+                .username(username)
+                .password("encoded-password")
+                .email(email)
+                .role(Role.USER)
+                .build()).getId();
+    }
+
+    private int countAdmins(String url, List<Long> ids) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        int count = 0;
+        for (Long id : ids) {
+            count += jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id = ? AND role = 'ADMIN'",
+                    Integer.class, id);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,82 @@
+package com.seongho.backend_core_lab.domain.auth.service;
+
+import com.seongho.backend_core_lab.domain.auth.dto.LoginRequest;
+import com.seongho.backend_core_lab.domain.auth.dto.PasswordResetRequest;
+import com.seongho.backend_core_lab.domain.auth.dto.SignupRequest;
+import com.seongho.backend_core_lab.domain.user.repository.ShardedUserRepository;
+import com.seongho.backend_core_lab.global.auth.VerifiedCredentialCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 검증된 로그인 정보 캐시를 켠 상태의 로그인 흐름 테스트
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:credential-cache;DB_CLOSE_DELAY=-1",
+        "session.tiering.enabled=false",
+        "credential-cache.enabled=true"
+})
+class AuthServiceCredentialCacheTest {
+
+    private static final String LOGIN_FAILED = "아이디 또는 비밀번호가 일치하지 않습니다";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private PasswordResetService passwordResetService;
+
+    @Autowired
+    private ShardedUserRepository userRepository;
+
+    @Autowired
+    private VerifiedCredentialCache verifiedCredentialCache;
+
+    @Test
+    void repeatedLoginIsVerifiedFromCache() {
+        authService.signup(new SignupRequest("cacheduser", "password1234!", "cached@example.com"));
+        authService.login(new LoginRequest("cacheduser", "password1234!")); // bcrypt 후 저장
+        long hits = verifiedCredentialCache.getHitCount();
+
+        authService.login(new LoginRequest("cacheduser", "password1234!"));
+
+        assertEquals(hits + 1, verifiedCredentialCache.getHitCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> authService.login(new LoginRequest("cacheduser", "wrong-password")));
+    }
+
+    @Test
+    void resetRequiredUserIsRejectedEvenOnCacheHit() {
+        Long userId = authService.signup(new SignupRequest("flaggeduser", "password1234!", "flagged@example.com")).getUserId();
+        authService.login(new LoginRequest("flaggeduser", "password1234!"));
+        String storedHash = userRepository.findById(userId).orElseThrow().getPassword();
+
+        passwordResetService.issueToken(userId);
+        assertFalse(verifiedCredentialCache.matches(userId, storedHash, "password1234!")); // User 변경 시 리스너가 삭제
+
+        verifiedCredentialCache.put(userId, storedHash, "password1234!"); // 삭제 전에 다시 저장된 경우를 가정
+        long hits = verifiedCredentialCache.getHitCount();
+        IllegalArgumentException blocked = assertThrows(IllegalArgumentException.class,
+                () -> authService.login(new LoginRequest("flaggeduser", "password1234!")));
+
+        assertEquals(hits + 1, verifiedCredentialCache.getHitCount()); // 캐시 적중 후에도 재설정 여부를 확인
+        assertEquals(LOGIN_FAILED, blocked.getMessage());
+    }
+
+    @Test
+    void passwordChangeEvictsCachedEntry() {
+        Long userId = authService.signup(new SignupRequest("changeduser", "password1234!", "changed@example.com")).getUserId();
+        String token = passwordResetService.issueToken(userId).getToken();
+        verifiedCredentialCache.put(userId, "stale-hash", "stale-password");
+
+        passwordResetService.resetPassword(new PasswordResetRequest("changeduser", token, "new-password"));
+
+        assertFalse(verifiedCredentialCache.matches(userId, "stale-hash", "stale-password")); // updatePassword → 리스너 삭제
+        assertEquals(userId, authService.login(new LoginRequest("changeduser", "new-password")).getUserId());
+    }
+}
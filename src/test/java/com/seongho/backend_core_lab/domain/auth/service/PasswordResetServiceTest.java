@@ -0,0 +1,80 @@
+package com.seongho.backend_core_lab.domain.auth.service;
+
+import com.seongho.backend_core_lab.domain.admin.dto.PasswordResetTokenResponse;
+import com.seongho.backend_core_lab.domain.auth.dto.LoginRequest;
+import com.seongho.backend_core_lab.domain.auth.dto.PasswordResetRequest;
+import com.seongho.backend_core_lab.domain.auth.dto.SignupRequest;
+import com.seongho.backend_core_lab.global.auth.SessionStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 비밀번호 강제 재설정 → 토큰 발급 → 재설정 → 로그인 흐름 테스트
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:password-reset;DB_CLOSE_DELAY=-1",
+        "session.tiering.enabled=false"
+})
+class PasswordResetServiceTest {
+
+    private static final String LOGIN_FAILED = "아이디 또는 비밀번호가 일치하지 않습니다";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private PasswordResetService passwordResetService;
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void resetRequiredUserLogsInOnlyAfterResettingWithToken() {
+        Long userId = authService.signup(new SignupRequest("resetuser", "old-password", "reset@example.com")).getUserId();
+        String sessionId = authService.login(new LoginRequest("resetuser", "old-password")).getSessionId();
+
+        PasswordResetTokenResponse issued = passwordResetService.issueToken(userId);
+
+        assertFalse(sessionStore.hasSession(sessionId)); // 기존 세션 무효화
+        IllegalArgumentException blocked = assertThrows(IllegalArgumentException.class,
+                () -> authService.login(new LoginRequest("resetuser", "old-password")));
+        assertEquals(LOGIN_FAILED, blocked.getMessage()); // 비밀번호가 맞았다는 사실을 드러내지 않음
+
+        assertThrows(IllegalArgumentException.class, () -> passwordResetService.resetPassword(
+                new PasswordResetRequest("resetuser", "wrong-token", "new-password")));
+
+        passwordResetService.resetPassword(new PasswordResetRequest("resetuser", issued.getToken(), "new-password"));
+
+        assertEquals(userId, authService.login(new LoginRequest("resetuser", "new-password")).getUserId());
+        assertThrows(IllegalArgumentException.class, () -> passwordResetService.resetPassword(
+                new PasswordResetRequest("resetuser", issued.getToken(), "another-password"))); // 토큰은 1회용
+    }
+
+    @Test
+    void loginDuringUncommittedTokenIssueDoesNotSurviveTheCommit() {
+        Long userId = authService.signup(new SignupRequest("racinguser", "old-password", "racing@example.com")).getUserId();
+
+        String racingSessionId = new TransactionTemplate(transactionManager).execute(status -> {
+            passwordResetService.issueToken(userId);
+            // 커밋 전: 다른 스레드의 로그인은 아직 재설정 전 사용자 정보를 읽고 세션을 만듦
+            return CompletableFuture.supplyAsync(() ->
+                    authService.login(new LoginRequest("racinguser", "old-password")).getSessionId()).join();
+        });
+
+        assertFalse(sessionStore.hasSession(racingSessionId)); // 커밋 후 무효화로 함께 지워짐
+        assertThrows(IllegalArgumentException.class,
+                () -> authService.login(new LoginRequest("racinguser", "old-password")));
+    }
+}
@@ -0,0 +1,132 @@
+package com.seongho.backend_core_lab.domain.user.repository;
+
+import com.seongho.backend_core_lab.domain.user.entity.User;
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import com.seongho.backend_core_lab.domain.user.shard.UserIdGenerator;
+import com.seongho.backend_core_lab.domain.user.shard.UserShardRouter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * users 테이블 샤딩 테스트
+ *
+ * 로컬 H2 인메모리 DB 4개를 디렉터리 DB + 샤드 3개로 사용합니다.
+ * 샤드 DB에 직접 접속해서 사용자가 어느 샤드에 저장되었는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ShardedUserRepositoryTest.DIRECTORY_URL,
+        "datasource.sharding.enabled=true",
+        "datasource.sharding.shards[0].url=jdbc:h2:mem:sharding-0;DB_CLOSE_DELAY=-1",
+        "datasource.sharding.shards[0].username=sa",
+        "datasource.sharding.shards[1].url=jdbc:h2:mem:sharding-1;DB_CLOSE_DELAY=-1",
+        "datasource.sharding.shards[1].username=sa",
+        "datasource.sharding.shards[2].url=jdbc:h2:mem:sharding-2;DB_CLOSE_DELAY=-1",
+        "datasource.sharding.shards[2].username=sa",
+        "session.tiering.enabled=false"
+})
+class ShardedUserRepositoryTest {
+
+    static final String DIRECTORY_URL = "jdbc:h2:mem:sharding-directory;DB_CLOSE_DELAY=-1";
+    private static final int SHARDS = 3;
+
+    @Autowired
+    private ShardedUserRepository userRepository;
+
+    @Autowired
+    private UserShardRouter userShardRouter;
+
+    @Test
+    void usersAreStoredOnTheirShardAndFoundByEveryKey() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            users.add(userRepository.save(user("sharded" + i, "sharded" + i + "@example.com", Role.USER)));
+        }
+
+        int[] expected = new int[SHARDS];
+        for (User user : users) {
+            int shard = userShardRouter.shardForKey(user.getUsername());
+            assertEquals(shard, UserIdGenerator.shardOf(user.getId())); // ID만 보고 샤드를 알 수 있음
+            expected[shard]++;
+
+            assertEquals(user.getId(), userRepository.findByUsername(user.getUsername()).orElseThrow().getId());
+            assertEquals(user.getId(), userRepository.findByEmail(user.getEmail()).orElseThrow().getId());
+            assertTrue(userRepository.existsByEmail(user.getEmail()));
+        }
+
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertTrue(expected[shard] > 0); // 한 샤드에 몰리지 않음
+            assertEquals(expected[shard], countOn(shardUrl(shard), "SELECT COUNT(*) FROM users WHERE username LIKE 'sharded%'"));
+        }
+        assertEquals(0, countOn(DIRECTORY_URL, "SELECT COUNT(*) FROM users")); // 디렉터리 DB에는 보조 키만 저장
+        assertEquals(30, countOn(DIRECTORY_URL, "SELECT COUNT(*) FROM user_directory WHERE lookup_key LIKE 'email:sharded%'"));
+    }
+
+    @Test
+    void duplicateEmailIsRejectedAcrossShards() {
+        User first = userRepository.save(user("dupmail1", "dup@example.com", Role.USER));
+        User duplicate = user("dupmail2", "dup@example.com", Role.USER);
+        assertTrue(UserIdGenerator.shardOf(first.getId()) != UserIdGenerator.shardOf(duplicate.getId()));
+
+        assertThrows(DataIntegrityViolationException.class, () -> userRepository.save(duplicate));
+
+        assertFalse(userRepository.existsByUsername("dupmail2"));
+        assertEquals(first.getId(), userRepository.findByEmail("dup@example.com").orElseThrow().getId());
+    }
+
+    @Test
+    void adminListingIsMergedAcrossShardsInIdOrder() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(userRepository.save(user("listing" + i, "listing" + i + "@example.com", Role.ADMIN)).getId());
+        }
+
+        List<Long> scanned = new ArrayList<>();
+        long lastId = 0L;
+        while (true) {
+            List<Long> chunk = userRepository.findIdsByFilterAfter(null, Role.ADMIN, lastId, PageRequest.of(0, 3));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            scanned.addAll(chunk);
+            lastId = chunk.get(chunk.size() - 1);
+        }
+
+        assertEquals(ids.stream().sorted().toList(), scanned);
+        assertEquals(10, userRepository.countByFilter(null, Role.ADMIN));
+
+        assertEquals(10, userRepository.updateRoleByIdIn(Role.USER, ids)); // 샤드별로 나눠서 UPDATE
+        assertEquals(0, userRepository.countByFilter(null, Role.ADMIN));
+    }
+
+    private User user(String username, String email, Role role) {
+        return User.builder()
+                .id(userRepository.newUserId(username, email))
+                .username(username)
+                .password("encoded-password")
+                .email(email)
+                .role(role)
+                .build();
+    }
+
+    private String shardUrl(int shard) {
+        return "jdbc:h2:mem:sharding-" + shard + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private int countOn(String url, String sql) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
@@ -0,0 +1,62 @@
+package com.seongho.backend_core_lab.domain.user.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 사용자 검색 인덱스 테스트
+ */
+class UserSearchIndexTest {
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserSearchIndex();
+        index.upsert(1L, "alice", "alice@example.com");
+        index.upsert(2L, "malice", "m@example.com");
+        index.upsert(3L, "bob", "bob@alpha.io");
+        index.upsert(4L, null, "kakao_user@kakao.com"); // 소셜 로그인 사용자
+    }
+
+    @Test
+    void usernamePrefixRanksBeforeSubstring() {
+        assertEquals(List.of(1L, 2L), userIds(index.search("ali", 10)));
+    }
+
+    @Test
+    void shortQueriesMatchPrefixOnly() {
+        assertEquals(List.of(1L), userIds(index.search("a", 10)));
+        assertEquals(List.of(3L), userIds(index.search("BO", 10)));
+    }
+
+    @Test
+    void emailMatchesAreSearchedToo() {
+        assertEquals(List.of(3L), userIds(index.search("alpha", 10)));
+        assertEquals(List.of(4L), userIds(index.search("kakao_", 10)));
+    }
+
+    @Test
+    void updatesAndRemovalsAreReflected() {
+        index.upsert(1L, "alicia", "alicia@example.com");
+        index.remove(2L);
+
+        assertEquals(List.of(1L), userIds(index.search("alic", 10)));
+        assertTrue(index.search("alice", 10).isEmpty());
+        assertEquals(3, index.stats().getUsers());
+    }
+
+    @Test
+    void limitIsApplied() {
+        assertEquals(1, index.search("example", 1).size());
+    }
+
+    private List<Long> userIds(List<UserSearchHit> hits) {
+        return hits.stream().map(UserSearchHit::getUserId).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.seongho.backend_core_lab.domain.user.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 사용자 ID 생성기 테스트
+ */
+class UserIdGeneratorTest {
+
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1; // JavaScript Number.MAX_SAFE_INTEGER
+    private static final long NOW_MILLIS = 1_767_225_600_000L; // 2026-01-01T00:00:00Z
+    private static final int TIME_SHIFT = 22; // 샤드 5비트 + 워커 5비트 + 순번 12비트
+
+    @Test
+    void idsOfShardAreIncreasing() {
+        AtomicLong clock = new AtomicLong(NOW_MILLIS);
+        UserIdGenerator generator = new UserIdGenerator(3, () -> clock.getAndAdd(1)); // 호출마다 1ms 진행
+
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId(5);
+
+            assertTrue(id > previous);
+            assertTrue(id <= MAX_SAFE_INTEGER);
+            previous = id;
+        }
+    }
+
+    @Test
+    void exhaustedSecondWaitsForTheClockInsteadOfBorrowingTheNextSecond() {
+        AtomicLong reads = new AtomicLong();
+        // 순번 4096개를 다 쓸 때까지는 같은 초, 그 다음 읽기부터 1초 뒤
+        UserIdGenerator generator = new UserIdGenerator(0,
+                () -> reads.getAndIncrement() <= 4096 ? NOW_MILLIS : NOW_MILLIS + 1_000);
+
+        long first = generator.nextId(0);
+        for (int i = 1; i < 4096; i++) {
+            generator.nextId(0);
+        }
+        long next = generator.nextId(0); // 4097번째: 시계가 다음 초가 된 뒤 발급
+
+        long firstSecond = first >>> TIME_SHIFT;
+        assertEquals(firstSecond + 1, next >>> TIME_SHIFT);
+        assertTrue(reads.get() > 4097); // 시계를 다시 읽으며 대기함
+    }
+
+    @Test
+    void smallClockRollbackContinuesButLargeRollbackIsRejected() {
+        AtomicLong clock = new AtomicLong(NOW_MILLIS);
+        UserIdGenerator generator = new UserIdGenerator(0, clock::get);
+        long before = generator.nextId(0);
+
+        clock.set(NOW_MILLIS - 2_000);
+        assertTrue(generator.nextId(0) > before); // 마지막으로 사용한 초부터 이어서 발급
+
+        clock.set(NOW_MILLIS - (UserIdGenerator.MAX_CLOCK_BACKWARD_SECONDS + 1) * 1_000);
+        assertThrows(IllegalStateException.class, () -> generator.nextId(0));
+    }
+
+    @Test
+    void idsCarryTheirShard() {
+        UserIdGenerator generator = new UserIdGenerator(31);
+
+        for (int shard = 0; shard < 32; shard++) {
+            assertEquals(shard, UserIdGenerator.shardOf(generator.nextId(shard)));
+        }
+    }
+
+    @Test
+    void differentWorkersNeverCollide() {
+        long first = new UserIdGenerator(0).nextId(1);
+        long second = new UserIdGenerator(1).nextId(1);
+
+        assertTrue(first != second);
+    }
+
+    @Test
+    void rejectsMissingOrOutOfRangeWorkerAndShard() {
+        assertThrows(IllegalArgumentException.class, () -> new UserIdGenerator(null)); // 인스턴스마다 직접 지정해야 함
+        assertThrows(IllegalArgumentException.class, () -> new UserIdGenerator(32));
+        assertThrows(IllegalArgumentException.class, () -> new UserIdGenerator(0).nextId(32));
+    }
+}
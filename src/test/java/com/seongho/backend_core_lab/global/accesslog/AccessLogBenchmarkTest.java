@@ -0,0 +1,70 @@
+package com.seongho.backend_core_lab.global.accesslog;
+
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import com.seongho.backend_core_lab.global.auth.SessionInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 동기 log.info vs 비동기 AccessLogger 요청 스레드 비용 비교
+ *
+ * 요청 스레드에서 소비되는 시간(ns/op)을 측정해서 비동기 기록이 동기 출력보다 빠른지 확인합니다.
+ * (요청당 할당량은 AccessLoggerTest가 매 빌드에서 확인)
+ * 시간 측정은 실행 환경에 따라 흔들리므로 기본 빌드에서는 건너뛰며 아래 명령으로 실행합니다.
+ * ./gradlew test -Pbenchmark=true --tests '*AccessLogBenchmarkTest'
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AccessLogBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger("AccessLogBenchmark");
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private final SessionInfo sessionInfo = new SessionInfo(1L, "admin01", Role.ADMIN);
+
+    @Test
+    void asyncLoggingIsCheaperThanSyncLogging() throws InterruptedException {
+        long sync = measureNanosPerOp(this::legacySyncLogging);
+
+        AccessLogger full = new AccessLogger(true, 1.0, 8192);
+        full.start();
+        long async = measureNanosPerOp(() -> asyncLogging(full));
+        full.stop();
+
+        AccessLogger sampled = new AccessLogger(true, 0.1, 8192);
+        sampled.start();
+        long asyncSampled = measureNanosPerOp(() -> asyncLogging(sampled));
+        sampled.stop();
+
+        assertTrue(async < sync, "async " + async + " ns/op, sync " + sync + " ns/op");
+        assertTrue(asyncSampled <= async, "sampled " + asyncSampled + " ns/op, async " + async + " ns/op");
+    }
+
+    // 변경 전 인증된 /admin 요청 1건이 남기던 로그와 동일한 형태
+    private void legacySyncLogging() {
+        log.info("[Filter] 요청 URI: {}", "/admin");
+        log.info("[Filter] 인증 성공 - 사용자: {}, 권한: {}", sessionInfo.getUsername(), sessionInfo.getRole());
+        log.info("[Interceptor] ADMIN 권한 확인 완료 - 사용자: {}", sessionInfo.getUsername());
+    }
+
+    private void asyncLogging(AccessLogger accessLogger) {
+        accessLogger.log("3f2a9c1d", "GET", "/admin", 200, 1_500_000L, sessionInfo);
+    }
+
+    private long measureNanosPerOp(Runnable task) {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+}
@@ -0,0 +1,64 @@
+package com.seongho.backend_core_lab.global.accesslog;
+
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import com.seongho.backend_core_lab.global.auth.SessionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 접근 로그 샘플링 / 요청 스레드 비용 테스트
+ *
+ * 출력 스레드를 시작하지 않은 AccessLogger를 사용합니다.
+ * → 큐에 들어간 레코드는 그대로 남고, 큐가 가득 차면 droppedCount로 확인할 수 있음
+ */
+class AccessLoggerTest {
+
+    private static final long MAX_BYTES_PER_LOG = 128; // AccessLogRecord 1개 (약 56 bytes)
+
+    private final SessionInfo sessionInfo = new SessionInfo(1L, "admin01", Role.ADMIN);
+
+    @Test
+    void errorsAreAlwaysQueuedEvenWithoutSuccessSampling() {
+        AccessLogger accessLogger = new AccessLogger(true, 0.0, 1);
+
+        accessLogger.log("t1", "GET", "/admin", 200, 1_000L, sessionInfo); // 샘플링에서 제외 → 큐에 넣지 않음
+        accessLogger.log("t2", "POST", "/auth/login", 500, 1_000L, null); // 큐의 1칸 사용
+        accessLogger.log("t3", "POST", "/auth/login", 401, 1_000L, null); // 큐가 가득 참 → 버림
+
+        assertEquals(1, accessLogger.getDroppedCount());
+    }
+
+    @Test
+    void fullQueueNeverBlocksRequestThread() {
+        AccessLogger accessLogger = new AccessLogger(true, 1.0, 4);
+
+        for (int i = 0; i < 10; i++) {
+            accessLogger.log("t" + i, "GET", "/admin", 200, 1_000L, sessionInfo);
+        }
+
+        assertEquals(6, accessLogger.getDroppedCount());
+    }
+
+    @Test
+    void logAllocatesOnlyTheRecordOnRequestThread() {
+        AccessLogger accessLogger = new AccessLogger(true, 1.0, 16);
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        for (int i = 0; i < 20_000; i++) { // 워밍업
+            accessLogger.log("3f2a9c1d", "GET", "/admin", 200, 1_500_000L, sessionInfo);
+        }
+        int iterations = 50_000;
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            accessLogger.log("3f2a9c1d", "GET", "/admin", 200, 1_500_000L, sessionInfo);
+        }
+        long bytesPerLog = (threadBean.getCurrentThreadAllocatedBytes() - before) / iterations;
+
+        assertTrue(bytesPerLog <= MAX_BYTES_PER_LOG, "요청당 " + bytesPerLog + " bytes 할당");
+    }
+}
@@ -0,0 +1,162 @@
+package com.seongho.backend_core_lab.global.auth;
+
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 콜드 티어 테스트 (강등 → 조회, 세그먼트 교체, compact, 인스턴스별 디렉터리)
+ */
+class ColdSessionTierTest {
+
+    private static final int SMALL_SEGMENT = 16 * 1024;
+
+    @TempDir
+    Path baseDirectory;
+
+    @Test
+    void demotedSessionsAreTakenBackExactlyOnce() {
+        try (ColdSessionTier tier = new ColdSessionTier(baseDirectory, SMALL_SEGMENT)) {
+            LocalDateTime loginTime = LocalDateTime.of(2026, 1, 2, 3, 4, 5, 678_000_000);
+            String local = UUID.randomUUID().toString();
+            String social = UUID.randomUUID().toString();
+            Map<String, SessionInfo> batch = new LinkedHashMap<>();
+            batch.put(local, new SessionInfo(1L, "alice", Role.ADMIN, loginTime));
+            batch.put(social, new SessionInfo(2L, null, Role.USER, loginTime)); // 소셜 로그인은 username 없음
+
+            tier.demote(batch);
+
+            assertTrue(tier.contains(local));
+            SessionInfo taken = tier.take(local);
+            assertEquals(1L, (long) taken.getUserId());
+            assertEquals("alice", taken.getUsername());
+            assertEquals(Role.ADMIN, taken.getRole());
+            assertEquals(loginTime, taken.getLoginTime());
+            assertNull(tier.take(local));
+            assertFalse(tier.contains(local));
+
+            assertNull(tier.take(social).getUsername());
+            assertEquals(0, tier.size());
+            assertEquals(0, tier.userCount());
+        }
+    }
+
+    @Test
+    void fullSegmentRollsOverAndEmptiedSegmentsAreDeleted() {
+        try (ColdSessionTier tier = new ColdSessionTier(baseDirectory, SMALL_SEGMENT)) {
+            List<String> sessionIds = demoteUntilSegments(tier, 3);
+            assertEquals(3, segmentFiles(tier));
+
+            for (String sessionId : sessionIds) {
+                assertEquals(sessionId.hashCode(), (long) tier.take(sessionId).getUserId()); // 모든 세그먼트에서 조회 가능
+            }
+
+            assertEquals(1, tier.segmentCount()); // 다 비운 세그먼트는 삭제, 활성 세그먼트만 남음
+            assertEquals(1, segmentFiles(tier));
+        }
+    }
+
+    @Test
+    void compactionMovesSurvivorsOutOfMostlyEmptySegment() {
+        try (ColdSessionTier tier = new ColdSessionTier(baseDirectory, SMALL_SEGMENT)) {
+            List<List<String>> blocks = new ArrayList<>();
+            while (tier.segmentCount() < 2) {
+                blocks.add(demoteBlock(tier));
+            }
+            List<String> firstSegment = new ArrayList<>();
+            blocks.subList(0, blocks.size() - 1).forEach(firstSegment::addAll); // 마지막 블록이 두 번째 세그먼트를 열었음
+            String survivor = firstSegment.remove(0);
+            firstSegment.forEach(tier::take); // 첫 세그먼트에는 1개만 남음
+            long diskBytesBefore = tier.diskBytes();
+
+            tier.compactOne();
+
+            assertEquals(1, tier.segmentCount());
+            assertTrue(tier.diskBytes() < diskBytesBefore);
+            assertEquals(survivor.hashCode(), (long) tier.take(survivor).getUserId());
+            for (String sessionId : blocks.get(blocks.size() - 1)) {
+                assertTrue(tier.contains(sessionId));
+            }
+        }
+    }
+
+    @Test
+    void removeByUserDropsOnlyThatUsersSessionsIncludingCompactedOnes() {
+        try (ColdSessionTier tier = new ColdSessionTier(baseDirectory, SMALL_SEGMENT)) {
+            Map<String, SessionInfo> batch = new LinkedHashMap<>();
+            String other = UUID.randomUUID().toString();
+            batch.put(UUID.randomUUID().toString(), new SessionInfo(7L, "bob", Role.USER));
+            batch.put(UUID.randomUUID().toString(), new SessionInfo(7L, "bob", Role.USER));
+            batch.put(other, new SessionInfo(8L, "carol", Role.USER));
+            tier.demote(batch);
+            tier.demote(batch); // compact처럼 같은 세션을 다시 기록해도 사용자별 인덱스는 중복되지 않음
+
+            assertEquals(2, tier.removeByUser(7L));
+            assertEquals(0, tier.removeByUser(7L));
+            assertEquals(1, tier.size());
+            assertTrue(tier.contains(other));
+        }
+    }
+
+    @Test
+    void eachInstanceUsesItsOwnDirectoryAndDeletesOnlyThatOnClose() throws Exception {
+        Path unrelated = Files.writeString(baseDirectory.resolve("segment-0.dat"), "다른 인스턴스 파일");
+        ColdSessionTier first = new ColdSessionTier(baseDirectory, SMALL_SEGMENT);
+        ColdSessionTier second = new ColdSessionTier(baseDirectory, SMALL_SEGMENT);
+        demoteBlock(first);
+        List<String> secondSessions = demoteBlock(second);
+
+        first.close();
+
+        assertFalse(Files.exists(first.directory()));
+        assertTrue(Files.exists(unrelated));
+        assertTrue(second.contains(secondSessions.get(0)));
+        assertEquals(1, segmentFiles(second));
+        second.close();
+        assertFalse(Files.exists(second.directory()));
+    }
+
+    private static List<String> demoteUntilSegments(ColdSessionTier tier, int segments) {
+        List<String> sessionIds = new ArrayList<>();
+        while (tier.segmentCount() < segments) {
+            sessionIds.addAll(demoteBlock(tier));
+        }
+        return sessionIds;
+    }
+
+    // 블록 1개(MAX_RECORDS_PER_BLOCK개) 강등, userId는 세션 ID로 정해서 조회 결과를 확인
+    private static List<String> demoteBlock(ColdSessionTier tier) {
+        Map<String, SessionInfo> batch = new LinkedHashMap<>();
+        for (int i = 0; i < ColdSessionTier.MAX_RECORDS_PER_BLOCK; i++) {
+            String sessionId = UUID.randomUUID().toString();
+            batch.put(sessionId, new SessionInfo((long) sessionId.hashCode(), "user" + i, Role.USER));
+        }
+        tier.demote(batch);
+        return new ArrayList<>(batch.keySet());
+    }
+
+    private static long segmentFiles(ColdSessionTier tier) {
+        try (Stream<Path> files = Files.list(tier.directory())) {
+            return files.count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
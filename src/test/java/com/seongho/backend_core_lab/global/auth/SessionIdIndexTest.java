@@ -0,0 +1,96 @@
+package com.seongho.backend_core_lab.global.auth;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 콜드 티어 세션 인덱스 테스트
+ *
+ * 초기 용량(1024)에서 같은 슬롯으로 모이는 키를 직접 만들어 backward shift 삭제를 확인합니다.
+ */
+class SessionIdIndexTest {
+
+    private static final int MASK = 1023;
+
+    @Test
+    void deletingFromACollisionChainKeepsTheRestReachable() {
+        List<long[]> keys = collidingKeys(MASK, 5); // 마지막 슬롯 → 0번 슬롯으로 넘어가는 체인
+        SessionIdIndex index = new SessionIdIndex();
+        for (int i = 0; i < keys.size(); i++) {
+            index.put(keys.get(i)[0], keys.get(i)[1], i);
+        }
+
+        assertEquals(0, index.remove(keys.get(0)[0], keys.get(0)[1])); // 체인 맨 앞
+        assertEquals(2, index.remove(keys.get(2)[0], keys.get(2)[1])); // 체인 중간
+
+        assertEquals(SessionIdIndex.ABSENT, index.get(keys.get(0)[0], keys.get(0)[1]));
+        assertEquals(SessionIdIndex.ABSENT, index.get(keys.get(2)[0], keys.get(2)[1]));
+        assertEquals(1, index.get(keys.get(1)[0], keys.get(1)[1]));
+        assertEquals(3, index.get(keys.get(3)[0], keys.get(3)[1]));
+        assertEquals(4, index.get(keys.get(4)[0], keys.get(4)[1]));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void deletingDoesNotMoveEntriesThatAreAlreadyInTheirOwnSlot() {
+        long[] first = collidingKeys(10, 2).get(0);
+        long[] second = collidingKeys(10, 2).get(1); // 10번 슬롯 체인 → 11번 슬롯 차지
+        long[] own = collidingKeys(12, 1).get(0); // 원래 12번 슬롯 키
+        SessionIdIndex index = new SessionIdIndex();
+        index.put(first[0], first[1], 1);
+        index.put(second[0], second[1], 2);
+        index.put(own[0], own[1], 3);
+
+        index.remove(first[0], first[1]);
+
+        assertEquals(2, index.get(second[0], second[1]));
+        assertEquals(3, index.get(own[0], own[1]));
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperationsAndResizes() {
+        Random random = new Random(42);
+        SessionIdIndex index = new SessionIdIndex();
+        Map<List<Long>, Long> expected = new HashMap<>();
+        List<long[]> keys = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            keys.add(new long[]{random.nextLong() | 1L, random.nextLong()});
+        }
+
+        for (int i = 0; i < 50_000; i++) {
+            long[] key = keys.get(random.nextInt(keys.size()));
+            List<Long> mapKey = List.of(key[0], key[1]);
+            if (random.nextInt(3) == 0) {
+                Long removed = expected.remove(mapKey);
+                assertEquals(removed != null ? removed : SessionIdIndex.ABSENT, index.remove(key[0], key[1]));
+            } else {
+                index.put(key[0], key[1], i);
+                expected.put(mapKey, (long) i);
+            }
+        }
+
+        assertEquals(expected.size(), index.size());
+        for (long[] key : keys) {
+            Long value = expected.get(List.of(key[0], key[1]));
+            assertEquals(value != null ? value : SessionIdIndex.ABSENT, index.get(key[0], key[1]));
+        }
+    }
+
+    private static List<long[]> collidingKeys(int slot, int count) {
+        List<long[]> keys = new ArrayList<>();
+        for (long msb = 1; keys.size() < count; msb++) {
+            long lsb = msb * 0x9E3779B97F4A7C15L;
+            if ((SessionIdIndex.hash(msb, lsb) & MASK) == slot) {
+                keys.add(new long[]{msb, lsb});
+            }
+        }
+        return keys;
+    }
+}
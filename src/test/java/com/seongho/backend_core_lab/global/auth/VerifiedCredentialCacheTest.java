@@ -0,0 +1,109 @@
+package com.seongho.backend_core_lab.global.auth;
+
+import com.seongho.backend_core_lab.domain.user.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 검증된 로그인 정보 캐시 테스트
+ *
+ * 시계를 직접 제어해서 TTL 경계를 확인합니다.
+ * (로그인 흐름에서의 동작은 AuthServiceCredentialCacheTest, 일괄 작업 삭제는 AdminBulkServiceTest)
+ */
+class VerifiedCredentialCacheTest {
+
+    private static final long TTL_SECONDS = 60;
+    private static final String HASH = "$2a$10$stored-hash";
+    private static final String PASSWORD = "password1234!";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void entryMatchesUntilTtlExpires() {
+        VerifiedCredentialCache cache = cache(true, 10);
+        cache.put(1L, HASH, PASSWORD);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(TTL_SECONDS) - 1);
+        assertTrue(cache.matches(1L, HASH, PASSWORD));
+
+        clock.addAndGet(2);
+        assertFalse(cache.matches(1L, HASH, PASSWORD));
+        assertEquals(0, cache.size()); // 만료된 항목은 조회 시 삭제
+    }
+
+    @Test
+    void changedStoredHashOrWrongPasswordNeverMatches() {
+        VerifiedCredentialCache cache = cache(true, 10);
+        cache.put(1L, HASH, PASSWORD);
+
+        assertFalse(cache.matches(1L, "$2a$10$changed-hash", PASSWORD)); // 비밀번호 변경 후 이전 항목
+        assertFalse(cache.matches(1L, HASH, "wrong-password"));
+        assertFalse(cache.matches(2L, HASH, PASSWORD)); // 다른 사용자
+        assertTrue(cache.matches(1L, HASH, PASSWORD));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    void fullCacheSkipsNewEntriesUntilSomeExpire() {
+        VerifiedCredentialCache cache = cache(true, 2);
+        cache.put(1L, HASH, PASSWORD);
+        cache.put(2L, HASH, PASSWORD);
+
+        cache.put(3L, HASH, PASSWORD); // 가득 참 - 저장하지 않음
+        assertEquals(2, cache.size());
+        assertFalse(cache.matches(3L, HASH, PASSWORD));
+
+        cache.put(1L, HASH, "new-password"); // 이미 있는 사용자는 갱신
+        assertTrue(cache.matches(1L, HASH, "new-password"));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(TTL_SECONDS + 1));
+        cache.put(3L, HASH, PASSWORD); // 만료된 항목을 정리한 뒤 저장
+        assertEquals(1, cache.size());
+        assertTrue(cache.matches(3L, HASH, PASSWORD));
+    }
+
+    @Test
+    void invalidateRemovesEntries() {
+        VerifiedCredentialCache cache = cache(true, 10);
+        cache.put(1L, HASH, PASSWORD);
+        cache.put(2L, HASH, PASSWORD);
+        cache.put(3L, HASH, PASSWORD);
+
+        cache.invalidate(1L);
+        cache.invalidateAll(List.of(2L, 3L));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void entityListenerRemovesEntryOfChangedUser() {
+        VerifiedCredentialCache cache = cache(true, 10);
+        cache.put(1L, HASH, PASSWORD);
+
+        new VerifiedCredentialCacheListener(cache).onChange(User.builder().id(1L).password(HASH).build());
+
+        assertFalse(cache.matches(1L, HASH, PASSWORD));
+    }
+
+    @Test
+    void disabledCacheNeverStoresOrMatches() {
+        VerifiedCredentialCache cache = cache(false, 10);
+        cache.put(1L, HASH, PASSWORD);
+
+        assertFalse(cache.matches(1L, HASH, PASSWORD));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getMissCount()); // 비활성화 시 통계도 기록하지 않음
+    }
+
+    private VerifiedCredentialCache cache(boolean enabled, int maxEntries) {
+        return new VerifiedCredentialCache(enabled, TTL_SECONDS, maxEntries, clock::get);
+    }
+}
@@ -0,0 +1,130 @@
+package com.seongho.backend_core_lab.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 레플리카 라우팅 테스트
+ *
+ * 로컬 H2 인메모리 DB 여러 개를 primary/레플리카 대역으로 사용합니다.
+ * 각 DB의 node 테이블에 자기 이름을 넣어두고, 어느 DB에서 읽었는지 확인합니다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String UNREACHABLE_URL = "jdbc:h2:tcp://localhost:1/unreachable"; // 연결 거부되는 레플리카
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        ReplicaRoutingContext.clear();
+        routingDataSource.close();
+    }
+
+    @Test
+    void readOnlyTransactionsAreBalancedAcrossReplicas() {
+        setUp(Map.of(), 0);
+
+        List<String> nodes = List.of(readNode(), readNode(), readNode(), readNode());
+
+        assertEquals(List.of("replica-0", "replica-1", "replica-0", "replica-1"), nodes);
+    }
+
+    @Test
+    void writeTransactionsGoToPrimary() {
+        setUp(Map.of(), 0);
+
+        String node = writeTransaction.execute(status -> currentNode());
+
+        assertEquals("primary", node);
+    }
+
+    @Test
+    void readsAfterWriteArePinnedToPrimaryForSameClient() {
+        setUp(Map.of(), 5_000);
+
+        ReplicaRoutingContext.setClientKey("ip:10.0.0.1");
+        writeTransaction.executeWithoutResult(status -> currentNode());
+        assertEquals("primary", readNode());
+
+        ReplicaRoutingContext.setClientKey("ip:10.0.0.2"); // 쓰기를 하지 않은 다른 클라이언트
+        assertTrue(readNode().startsWith("replica-"));
+    }
+
+    @Test
+    void unhealthyReplicaIsSkipped() {
+        setUp(Map.of("replica-1", new DriverManagerDataSource(UNREACHABLE_URL)), 0);
+
+        routingDataSource.checkReplicaHealth();
+
+        assertEquals(List.of("replica-0"), routingDataSource.getHealthyReplicas());
+        assertEquals("replica-0", readNode());
+        assertEquals("replica-0", readNode());
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenNoReplicaIsHealthy() {
+        setUp(Map.of(
+                "replica-0", new DriverManagerDataSource(UNREACHABLE_URL),
+                "replica-1", new DriverManagerDataSource(UNREACHABLE_URL)), 0);
+
+        routingDataSource.checkReplicaHealth();
+
+        assertEquals("primary", readNode());
+    }
+
+    /**
+     * primary + 레플리카 2개 구성
+     *
+     * @param overrides 특정 레플리카를 다른 DataSource(장애 레플리카 등)로 교체
+     * @param readYourWritesMillis 쓰기 후 primary 고정 시간
+     */
+    private void setUp(Map<String, DataSource> overrides, long readYourWritesMillis) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String name : List.of("replica-0", "replica-1")) {
+            replicas.put(name, overrides.containsKey(name) ? overrides.get(name) : node(name));
+        }
+        routingDataSource = new ReplicaRoutingDataSource(node("primary"), replicas, readYourWritesMillis);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private DataSource node(String name) {
+        String url = "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        JdbcTemplate node = new JdbcTemplate(dataSource);
+        node.execute("CREATE TABLE node (name VARCHAR(20))");
+        node.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private String readNode() {
+        return readOnlyTransaction.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+}
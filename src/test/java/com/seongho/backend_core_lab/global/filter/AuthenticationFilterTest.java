@@ -0,0 +1,82 @@
+package com.seongho.backend_core_lab.global.filter;
+
+import com.seongho.backend_core_lab.global.accesslog.AccessLogger;
+import com.seongho.backend_core_lab.global.auth.SessionInfo;
+import com.seongho.backend_core_lab.global.profiling.ContinuousProfiler;
+import com.seongho.backend_core_lab.global.trace.TraceRecord;
+import com.seongho.backend_core_lab.global.trace.TraceRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 요청 종료 시 기록하는 상태 코드 테스트
+ *
+ * 공개 경로(/auth/login)만 사용하므로 세션 저장소 없이 필터를 만듭니다.
+ */
+class AuthenticationFilterTest {
+
+    private final TraceRecorder traceRecorder = new TraceRecorder(true, 0.0, 60_000, 10); // head 샘플링 없음
+    private final CapturingAccessLogger accessLogger = new CapturingAccessLogger();
+    private final AuthenticationFilter filter = new AuthenticationFilter(null, traceRecorder, accessLogger,
+            new ContinuousProfiler(false, 30, 256, 5, 20));
+
+    @Test
+    void exceptionIsRecordedAsServerError() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThrows(IllegalArgumentException.class, () -> filter.doFilter(request, response, (req, res) -> {
+            throw new IllegalArgumentException("아이디 또는 비밀번호가 일치하지 않습니다");
+        }));
+
+        assertEquals(500, accessLogger.lastStatus);
+        List<TraceRecord> traces = traceRecorder.getRecentTraces();
+        assertEquals(1, traces.size()); // 오류 요청은 샘플링과 관계없이 보관
+        assertEquals(500, traces.get(0).getStatus());
+    }
+
+    @Test
+    void statusWrittenBeforeExceptionIsKept() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request, response, (req, res) -> {
+            response.setStatus(409);
+            throw new IllegalStateException("conflict");
+        }));
+
+        assertEquals(409, accessLogger.lastStatus);
+    }
+
+    @Test
+    void successfulRequestKeepsResponseStatus() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> response.setStatus(201));
+
+        assertEquals(201, accessLogger.lastStatus);
+        assertEquals(0, traceRecorder.getRecentTraces().size());
+    }
+
+    private static class CapturingAccessLogger extends AccessLogger {
+
+        private int lastStatus;
+
+        CapturingAccessLogger() {
+            super(true, 1.0, 16);
+        }
+
+        @Override
+        public void log(String traceId, String method, String uri, int status, long durationNanos,
+                        SessionInfo sessionInfo) {
+            lastStatus = status;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.seongho.backend_core_lab.global.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 분 단위 버킷 집계 테스트
+ */
+class RollingProfileTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void bucketsOlderThanTheWindowAreDropped() {
+        RollingProfile profile = new RollingProfile(5);
+        profile.recordRequest(minute(0), "GET /users", "USER", 1_000_000, 100);
+        profile.recordRequest(minute(4), "GET /users", "USER", 1_000_000, 100);
+
+        assertEquals(2, profile.snapshot(minute(4), 10).getRoutes().get(0).getCount());
+
+        profile.recordRequest(minute(5), "GET /users", "USER", 1_000_000, 100); // 0분 버킷이 구간 밖으로 밀려남
+
+        assertEquals(2, profile.snapshot(minute(5), 10).getRoutes().get(0).getCount());
+        assertEquals(0, profile.snapshot(minute(10), 10).getRoutes().size()); // 새 이벤트가 없어도 조회 구간 밖은 제외
+    }
+
+    @Test
+    void lateEventsAreCountedInTheLatestBucket() {
+        RollingProfile profile = new RollingProfile(5);
+        profile.recordGc(minute(10), 2_000_000, 2_000_000);
+        profile.recordGc(minute(3), 5_000_000, 5_000_000); // 이미 지난 분의 이벤트가 늦게 도착
+
+        ProfilingSnapshot snapshot = profile.snapshot(minute(14), 10);
+
+        assertEquals(2, snapshot.getGc().getCollections());
+        assertEquals(7.0, snapshot.getGc().getTotalPauseMillis());
+        assertEquals(5.0, snapshot.getGc().getMaxPauseMillis());
+        assertEquals(0, profile.snapshot(minute(15), 10).getGc().getCollections()); // 10분 버킷과 함께 만료
+    }
+
+    @Test
+    void stacksAreMergedAcrossBucketsBeforeTakingTopK() {
+        RollingProfile profile = new RollingProfile(5);
+        List<String> a = List.of("UserService.find", "UserController.get");
+        List<String> b = List.of("SessionStore.create", "AuthService.login");
+        List<String> c = List.of("AccessLogger.log");
+        profile.recordAllocation(minute(0), a, 100);
+        profile.recordAllocation(minute(0), b, 150);
+        profile.recordAllocation(minute(1), a, 100);
+        profile.recordAllocation(minute(1), c, 10);
+
+        List<ProfilingSnapshot.StackProfile> top = profile.snapshot(minute(1), 2).getTopAllocations();
+
+        assertEquals(2, top.size());
+        assertEquals(a, top.get(0).getFrames()); // 버킷마다는 b보다 작지만 합치면 가장 큼
+        assertEquals(2, top.get(0).getEvents());
+        assertEquals(200, top.get(0).getWeight());
+        assertEquals(b, top.get(1).getFrames());
+        assertEquals(150, top.get(1).getWeight());
+    }
+
+    @Test
+    void routesAreMergedPerRouteAndRole() {
+        RollingProfile profile = new RollingProfile(5);
+        profile.recordRequest(minute(0), "GET /users", "USER", 2_000_000, 100);
+        profile.recordRequest(minute(1), "GET /users", "USER", 6_000_000, 300);
+        profile.recordRequest(minute(1), "GET /users", "ADMIN", 1_000_000, 50);
+
+        List<ProfilingSnapshot.RouteProfile> routes = profile.snapshot(minute(1), 10).getRoutes();
+
+        assertEquals(2, routes.size());
+        assertEquals("USER", routes.get(0).getRole());
+        assertEquals(2, routes.get(0).getCount());
+        assertEquals(4.0, routes.get(0).getAverageMillis());
+        assertEquals(6.0, routes.get(0).getMaxMillis());
+        assertEquals(200, routes.get(0).getAverageAllocatedBytes());
+        assertEquals("ADMIN", routes.get(1).getRole());
+    }
+
+    private static Instant minute(long minute) {
+        return START.plusSeconds(minute * 60);
+    }
+}
@@ -0,0 +1,117 @@
+package com.seongho.backend_core_lab.global.trace;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 트레이스 기록/샘플링 테스트
+ *
+ * TraceContext는 스레드 로컬이므로 테스트 스레드 하나에서 요청 시작 ~ 종료를 그대로 재현합니다.
+ */
+class TraceRecorderTest {
+
+    private static final long NEVER_SLOW_MILLIS = 60_000;
+
+    @AfterEach
+    void tearDown() {
+        TraceContext.current().finish(); // 실패한 테스트가 다음 테스트에 트레이스를 남기지 않도록
+    }
+
+    @Test
+    void spansOverMaxAreDroppedAndCounted() {
+        TraceRecorder recorder = new TraceRecorder(true, 1.0, NEVER_SLOW_MILLIS, 10);
+
+        recorder.begin(null);
+        for (int i = 0; i < TraceContext.MAX_SPANS + 3; i++) {
+            TraceContext.endSpan(TraceContext.startSpan(TraceContext.SQL, "select 1"));
+        }
+        assertEquals(TraceContext.NO_SPAN, TraceContext.startSpan(TraceContext.SQL, "select 1"));
+        recorder.end("GET", "/admin", 200);
+
+        TraceRecord trace = recorder.getRecentTraces().get(0);
+        assertEquals(TraceContext.MAX_SPANS, trace.getSpans().size());
+        assertEquals(4, trace.getDroppedSpans());
+    }
+
+    @Test
+    void nestedSpansKeepTheirDepth() {
+        TraceRecorder recorder = new TraceRecorder(true, 1.0, NEVER_SLOW_MILLIS, 10);
+
+        recorder.begin(null);
+        int service = TraceContext.startSpan(TraceContext.SERVICE, "AuthService.login");
+        TraceContext.endSpan(TraceContext.startSpan(TraceContext.SQL, "select 1"));
+        TraceContext.endSpan(service);
+        TraceContext.endSpan(TraceContext.startSpan(TraceContext.SESSION, "createSession"));
+        recorder.end("POST", "/auth/login", 200);
+
+        List<TraceRecord.SpanRecord> spans = recorder.getRecentTraces().get(0).getSpans();
+        assertEquals(List.of(0, 1, 0), spans.stream().map(TraceRecord.SpanRecord::getDepth).toList());
+    }
+
+    @Test
+    void unsampledFastRequestIsNotKept() {
+        TraceRecorder recorder = new TraceRecorder(true, 0.0, NEVER_SLOW_MILLIS, 10);
+
+        recorder.begin(null);
+        recorder.end("GET", "/admin", 200);
+
+        assertTrue(recorder.getRecentTraces().isEmpty());
+        assertFalse(TraceContext.current().isActive());
+    }
+
+    @Test
+    void errorRequestsAreAlwaysKept() {
+        TraceRecorder recorder = new TraceRecorder(true, 0.0, NEVER_SLOW_MILLIS, 10);
+
+        recorder.begin(null);
+        TraceContext.markError();
+        recorder.end("POST", "/auth/login", 400);
+        recorder.begin(null);
+        recorder.end("GET", "/admin", 503);
+
+        List<TraceRecord> traces = recorder.getRecentTraces();
+        assertEquals(2, traces.size());
+        assertTrue(traces.stream().allMatch(trace -> trace.getReason().equals("ERROR")));
+    }
+
+    @Test
+    void slowRequestsAreAlwaysKept() {
+        TraceRecorder recorder = new TraceRecorder(true, 0.0, 0, 10); // 모든 요청이 기준 이상
+
+        recorder.begin(null);
+        recorder.end("GET", "/admin", 200);
+
+        assertEquals("SLOW", recorder.getRecentTraces().get(0).getReason());
+    }
+
+    @Test
+    void ringBufferKeepsOnlyNewestTraces() {
+        TraceRecorder recorder = new TraceRecorder(true, 1.0, NEVER_SLOW_MILLIS, 3);
+
+        for (int i = 0; i < 5; i++) {
+            recorder.begin("trace-" + i);
+            recorder.end("GET", "/admin", 200);
+        }
+
+        List<String> traceIds = recorder.getRecentTraces().stream().map(TraceRecord::getTraceId).toList();
+        assertEquals(List.of("trace-4", "trace-3", "trace-2"), traceIds); // 최신순
+        assertEquals(5, recorder.getKeptCount());
+    }
+
+    @Test
+    void incomingTraceIdIsReusedOnlyWhenSafe() {
+        TraceRecorder recorder = new TraceRecorder(false, 0.0, NEVER_SLOW_MILLIS, 10);
+
+        assertEquals("req-01_AB", recorder.begin("req-01_AB"));
+        assertNotEquals("abc\n[INFO] forged", recorder.begin("abc\n[INFO] forged"));
+        assertNotEquals("a b", recorder.begin("a b"));
+        assertNotEquals("x".repeat(65), recorder.begin("x".repeat(65)));
+    }
+}
@@ -0,0 +1,131 @@
+package com.seongho.backend_core_lab.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 엔드포인트별 SQL 실행 수 / 요청 스레드 할당량 측정 (성능 회귀 감지용 테스트 지원)
+ *
+ * <측정 방식>
+ * - SQL: Hibernate Statistics의 prepared statement 수 (hibernate.generate_statistics=true 필요)
+ * - 할당량: 요청 스레드의 누적 할당 바이트 (com.sun.management.ThreadMXBean)
+ *   MockMvc는 테스트 스레드에서 요청을 처리하므로 Filter → Controller → Service 전체가 포함됨
+ *   (AccessLogger 출력 스레드처럼 요청 스레드 밖의 작업은 제외)
+ * - 워밍업 후 여러 번 실행해서 SQL은 최댓값, 할당량은 중앙값을 사용 (JIT/캐시 영향 제거)
+ *
+ * <리포트>
+ * writeReport()가 build/reports/request-budget.tsv에 엔드포인트 이름 순으로 기록합니다.
+ * 할당량은 KB 단위로 반올림 → 커밋 간 diff로 회귀 여부를 바로 확인할 수 있음
+ */
+public class RequestBudget {
+
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 30;
+    private static final Path REPORT = Path.of("build", "reports", "request-budget.tsv");
+
+    private static final Map<String, RequestCost> RESULTS = new TreeMap<>(); // 엔드포인트 이름 순
+
+    private final MockMvc mockMvc;
+    private final Statistics statistics;
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public RequestBudget(MockMvc mockMvc, EntityManagerFactory entityManagerFactory) {
+        this.mockMvc = mockMvc;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("hibernate.generate_statistics=true 설정이 필요합니다");
+        }
+    }
+
+    /**
+     * 요청 비용 측정
+     *
+     * @param endpoint 리포트에 기록할 이름 (예: "POST /auth/login")
+     * @param request 매 반복마다 새 요청 생성 (세션 생성 등 준비 작업은 측정에서 제외됨)
+     * @return SQL 실행 수(최댓값)와 할당 바이트(중앙값)
+     */
+    public RequestCost measure(String endpoint, Supplier<RequestBuilder> request) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            perform(request.get());
+        }
+
+        long maxSql = 0;
+        long[] bytes = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            RequestBuilder builder = request.get();
+
+            statistics.clear();
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            perform(builder);
+            bytes[i] = threadBean.getCurrentThreadAllocatedBytes() - before;
+            maxSql = Math.max(maxSql, statistics.getPrepareStatementCount());
+        }
+        Arrays.sort(bytes);
+
+        RequestCost cost = new RequestCost(endpoint, maxSql, bytes[ITERATIONS / 2]);
+        synchronized (RESULTS) {
+            RESULTS.put(endpoint, cost);
+        }
+        return cost;
+    }
+
+    /**
+     * 측정 결과가 예산 안인지 확인
+     *
+     * @param maxSqlStatements 허용하는 최대 SQL 실행 수
+     * @param maxAllocatedBytes 허용하는 최대 할당 바이트 (요청 1건)
+     */
+    public static void assertWithinBudget(RequestCost cost, long maxSqlStatements, long maxAllocatedBytes) {
+        assertTrue(cost.getSqlStatements() <= maxSqlStatements, () -> String.format(
+                "%s: SQL %d회 실행 (예산 %d회)", cost.getEndpoint(), cost.getSqlStatements(), maxSqlStatements));
+        assertTrue(cost.getAllocatedBytes() <= maxAllocatedBytes, () -> String.format(
+                "%s: 요청당 %d bytes 할당 (예산 %d bytes)", cost.getEndpoint(), cost.getAllocatedBytes(), maxAllocatedBytes));
+    }
+
+    /**
+     * 측정 결과를 리포트 파일로 저장
+     */
+    public static void writeReport() {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint\tsql_statements\tallocated_kb");
+        synchronized (RESULTS) {
+            for (RequestCost cost : RESULTS.values()) {
+                lines.add(cost.getEndpoint() + "\t" + cost.getSqlStatements() + "\t"
+                        + Math.round(cost.getAllocatedBytes() / 1024.0));
+            }
+        }
+        try {
+            Files.createDirectories(REPORT.getParent());
+            Files.write(REPORT, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void perform(RequestBuilder builder) throws Exception {
+        MvcResult result = mockMvc.perform(builder).andReturn();
+        int status = result.getResponse().getStatus();
+        if (status >= 400) {
+            throw new IllegalStateException("요청 실패 (" + status + "): " + result.getResponse().getContentAsString());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.seongho.backend_core_lab.support;
+
+/**
+ * 요청 1건의 비용 측정 결과
+ */
+public class RequestCost {
+
+    private final String endpoint;
+    private final long sqlStatements; // 측정 반복 중 최댓값
+    private final long allocatedBytes; // 측정 반복의 중앙값 (요청 스레드 기준)
+
+    RequestCost(String endpoint, long sqlStatements, long allocatedBytes) {
+        this.endpoint = endpoint;
+        this.sqlStatements = sqlStatements;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getSqlStatements() {
+        return sqlStatements;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+}